@@ -0,0 +1,154 @@
+package com.github.mdhtr.jsonld.cache;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import lombok.Value;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Caches the serialized JSON-LD of entities, keyed by their {@code @id} and a version (e.g. an ETag),
+ * so an unchanged entity is served without serializing it again.
+ * <p>
+ * The UTF-8 bytes are kept off-heap in direct buffers. Only one version of an entity is kept;
+ * asking for another version replaces it, unless a concurrent request has cached a different version
+ * in the meantime. When the cached bytes exceed {@code maxBytes}, the least
+ * recently used entities are evicted. Works with any of the Jackson based stacks, the writer decides
+ * how the entities are serialized.
+ */
+public class JsonldResponseCache {
+	private final ObjectWriter writer;
+	private final long maxBytes;
+	private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+	private long usedBytes;
+	// incremented by the invalidations, a miss serialized before one is not cached
+	private long generation;
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	/**
+	 * @param writer   the writer used to serialize the entities on a cache miss
+	 * @param maxBytes the maximum number of serialized bytes to keep
+	 */
+	public JsonldResponseCache(ObjectWriter writer, long maxBytes) {
+		this.writer = writer;
+		this.maxBytes = maxBytes;
+	}
+
+	/**
+	 * Returns the serialized entity, serializing it only if this version of it is not cached yet.
+	 *
+	 * @param id      the {@code @id} of the entity
+	 * @param version the version of the entity, changes whenever the entity changes
+	 * @param entity  the entity to serialize on a cache miss
+	 * @return a read-only buffer with the UTF-8 encoded JSON-LD
+	 */
+	public ByteBuffer get(String id, String version, Object entity) throws JsonProcessingException {
+		Entry seen;
+		long missGeneration;
+		synchronized (this) {
+			seen = entries.get(id);
+			if (seen != null && seen.version.equals(version)) {
+				hits++;
+				return seen.content.duplicate();
+			}
+			misses++;
+			missGeneration = generation;
+		}
+
+		byte[] serialized = writer.writeValueAsBytes(entity);
+		ByteBuffer content = ByteBuffer.allocateDirect(serialized.length).put(serialized).flip().asReadOnlyBuffer();
+
+		synchronized (this) {
+			Entry current = entries.get(id);
+			// a concurrent request has cached another version meanwhile, which may well be the newer one
+			if (generation == missGeneration && (current == null || current == seen)) {
+				remove(id);
+				if (content.capacity() <= maxBytes) {
+					entries.put(id, new Entry(version, content));
+					usedBytes += content.capacity();
+					evict();
+				}
+			}
+		}
+		return content.duplicate();
+	}
+
+	/**
+	 * Writes the serialized entity to the output stream, see {@link #get(String, String, Object)}.
+	 */
+	public void writeTo(OutputStream out, String id, String version, Object entity) throws IOException {
+		Channels.newChannel(out).write(get(id, version, entity));
+	}
+
+	/**
+	 * Drops the cached serialization of the entity, regardless of its version.
+	 */
+	public synchronized void invalidate(String id) {
+		generation++;
+		remove(id);
+	}
+
+	public synchronized void invalidateAll() {
+		generation++;
+		entries.clear();
+		usedBytes = 0;
+	}
+
+	public synchronized Stats stats() {
+		return new Stats(hits, misses, evictions, entries.size(), usedBytes);
+	}
+
+	private void remove(String id) {
+		Entry removed = entries.remove(id);
+		if (removed != null) {
+			usedBytes -= removed.content.capacity();
+		}
+	}
+
+	private void evict() {
+		Iterator<Entry> iterator = entries.values().iterator();
+		while (usedBytes > maxBytes && iterator.hasNext()) {
+			usedBytes -= iterator.next().content.capacity();
+			iterator.remove();
+			evictions++;
+		}
+	}
+
+	private static final class Entry {
+		private final String version;
+		private final ByteBuffer content;
+
+		private Entry(String version, ByteBuffer content) {
+			this.version = Objects.requireNonNull(version);
+			this.content = content;
+		}
+	}
+
+	@Value
+	public static class Stats {
+		long hits;
+		long misses;
+		long evictions;
+		int entries;
+		/**
+		 * the off-heap memory used by the cached serializations
+		 */
+		long bytes;
+
+		public double hitRate() {
+			long requests = hits + misses;
+			return requests == 0 ? 0 : (double) hits / requests;
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package com.github.mdhtr.jsonld.jackson;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+import de.escalon.hypermedia.hydra.mapping.Expose;
+import de.escalon.hypermedia.hydra.mapping.Term;
+import de.escalon.hypermedia.hydra.mapping.Terms;
+import de.escalon.hypermedia.hydra.mapping.Vocab;
+import de.escalon.hypermedia.hydra.serialize.LdContextFactory;
+import ioinformarics.oss.jackson.module.jsonld.JsonldContextFactory;
+import ioinformarics.oss.jackson.module.jsonld.annotation.JsonldNamespace;
+import ioinformarics.oss.jackson.module.jsonld.annotation.JsonldType;
+import ioinformarics.oss.jackson.module.jsonld.annotation.JsonldTypeFromJavaClass;
+
+/**
+ * The {@code @context} a bean is written with by the serializers that build it from annotations instead of
+ * a {@code @context} property: the jackson-jsonld module ({@code @JsonldNamespace}, {@code @JsonldProperty},
+ * {@code @JsonldType}) and hydra-jsonld ({@code @Expose}, {@code @Vocab}, {@code @Term}). Both write the
+ * {@code @type} of the bean from annotations too.
+ */
+final class JsonldAnnotationContext {
+
+	private JsonldAnnotationContext() {
+	}
+
+	/**
+	 * @return the context of the bean, or {@code null} if the bean has none of the annotations
+	 */
+	static Map<String, Object> of(BeanDescription beanDesc, List<BeanPropertyDefinition> definitions) {
+		Map<String, Object> jsonld = jsonldModuleContext(beanDesc.getBeanClass());
+		Map<String, Object> hydra = hydraContext(beanDesc.getBeanClass(), definitions);
+		if (jsonld == null) {
+			return hydra;
+		}
+		if (hydra != null) {
+			jsonld.putAll(hydra);
+		}
+		return jsonld;
+	}
+
+	private static Map<String, Object> jsonldModuleContext(Class<?> type) {
+		if (!type.isAnnotationPresent(JsonldNamespace.class)
+				&& !type.isAnnotationPresent(JsonldType.class)
+				&& !type.isAnnotationPresent(JsonldTypeFromJavaClass.class)) {
+			return null;
+		}
+		return JsonldContextFactory.fromAnnotations(type)
+				.map(JsonldAnnotationContext::toMap)
+				.orElseGet(LinkedHashMap::new);
+	}
+
+	private static Map<String, Object> hydraContext(Class<?> type, List<BeanPropertyDefinition> definitions) {
+		Map<String, Object> exposed = new LinkedHashMap<>();
+		for (BeanPropertyDefinition definition : definitions) {
+			Expose expose = exposeOf(definition);
+			if (expose != null) {
+				exposed.put(definition.getName(), expose.value());
+			}
+		}
+		LdContextFactory factory = new LdContextFactory();
+		String vocab = factory.vocabFromClassOrPackage(type);
+		Map<String, Object> terms = factory.termsFromClass(type);
+		if (exposed.isEmpty() && vocab == null && terms.isEmpty()
+				&& !type.isAnnotationPresent(Expose.class)
+				&& !type.isAnnotationPresent(Term.class)
+				&& !type.isAnnotationPresent(Terms.class)
+				&& !type.isAnnotationPresent(Vocab.class)) {
+			return null;
+		}
+		Map<String, Object> context = new LinkedHashMap<>();
+		context.put("@vocab", vocab != null ? vocab : LdContextFactory.HTTP_SCHEMA_ORG);
+		context.putAll(terms);
+		context.putAll(exposed);
+		return context;
+	}
+
+	private static Expose exposeOf(BeanPropertyDefinition definition) {
+		for (AnnotatedMember member : new AnnotatedMember[] {
+				definition.getField(), definition.getGetter(), definition.getSetter()}) {
+			Expose expose = member == null ? null : member.getAnnotation(Expose.class);
+			if (expose != null) {
+				return expose;
+			}
+		}
+		return null;
+	}
+
+	private static Map<String, Object> toMap(JsonNode node) {
+		Map<String, Object> map = new LinkedHashMap<>();
+		for (Iterator<Map.Entry<String, JsonNode>> fields = node.fields(); fields.hasNext();) {
+			Map.Entry<String, JsonNode> field = fields.next();
+			JsonNode value = field.getValue();
+			map.put(field.getKey(), value.isObject() ? toMap(value) : value.isNull() ? null : value.asText());
+		}
+		return map;
+	}
+}
@@ -0,0 +1,156 @@
+package com.github.mdhtr.jsonld.jackson;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.deser.std.DelegatingDeserializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Reads a compacted JSON-LD node object into a bean: the keys are matched to the properties by their
+ * expanded IRI, so full IRIs, compact IRIs and other term names of the same property are all accepted.
+ * Value objects and node references are unwrapped for plain properties, a bare IRI is read as a node
+ * reference for beans with an {@code @id}. The translated object is passed on to the bean deserializer.
+ * <p>
+ * The {@code @context} of the object has to come before its terms, only keywords such as {@code @type}
+ * may precede it. Nested objects inherit it. Nested
+ * beans without a {@code @context} of their own are matched with the context of the enclosing bean.
+ */
+class JsonldBeanDeserializer extends DelegatingDeserializer {
+	private static final long serialVersionUID = 1L;
+
+	private static final String CONTEXT = "@context";
+	private static final String ID = "@id";
+	private static final String VALUE = "@value";
+
+	private final JsonldTermTable terms;
+
+	JsonldBeanDeserializer(JsonDeserializer<?> delegatee, JsonldTermTable terms) {
+		super(delegatee);
+		this.terms = terms;
+	}
+
+	@Override
+	protected JsonDeserializer<?> newDelegatingInstance(JsonDeserializer<?> newDelegatee) {
+		return new JsonldBeanDeserializer(newDelegatee, terms);
+	}
+
+	@Override
+	public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+		JsonToken token = p.currentToken();
+		if (token == JsonToken.VALUE_STRING && terms.hasId()) {
+			TokenBuffer reference = new TokenBuffer(p, ctxt);
+			reference.writeStartObject();
+			reference.writeStringField(ID, p.getText());
+			reference.writeEndObject();
+			return delegate(reference, p, ctxt, activeContext(ctxt), terms.classContext(inheritedClassContext(ctxt)));
+		}
+		if (token == JsonToken.START_OBJECT) {
+			token = p.nextToken();
+		}
+		if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+			return _delegatee.deserialize(p, ctxt);
+		}
+
+		JsonldContext context = activeContext(ctxt);
+		JsonldContext classContext = terms.classContext(inheritedClassContext(ctxt));
+		TokenBuffer out = new TokenBuffer(p, ctxt);
+		out.writeStartObject();
+		boolean first = true;
+		for (; p.currentToken() == JsonToken.FIELD_NAME; p.nextToken()) {
+			String key = p.getCurrentName();
+			p.nextToken();
+			if (CONTEXT.equals(key)) {
+				if (!first) {
+					ctxt.reportInputMismatch(this, "@context must come before the terms of a JSON-LD object");
+				}
+				context = context.merge(ctxt.readValue(p, Object.class));
+				if (context.sameAs(classContext)) {
+					// the usual case of a document written with the context of the class, whose expansions are cached
+					context = classContext;
+				}
+				first = false;
+				continue;
+			}
+			// keywords are not expanded, they may come before the context
+			first &= key.startsWith("@");
+			String property = terms.property(key, context, classContext);
+			if (property == null) {
+				// left to the bean deserializer to ignore or report
+				out.writeFieldName(key);
+				out.copyCurrentStructure(p);
+			}
+			else if (terms.isConstant(property)) {
+				p.skipChildren();
+			}
+			else if (terms.isScalar(property)) {
+				out.writeFieldName(property);
+				writeScalar(p, ctxt, out, property, context, classContext);
+			}
+			else {
+				out.writeFieldName(property);
+				out.copyCurrentStructure(p);
+			}
+		}
+		out.writeEndObject();
+		return delegate(out, p, ctxt, context, classContext);
+	}
+
+	private void writeScalar(JsonParser p, DeserializationContext ctxt, TokenBuffer out, String property,
+			JsonldContext context, JsonldContext classContext) throws IOException {
+		JsonToken token = p.currentToken();
+		if (token == JsonToken.VALUE_STRING) {
+			out.writeString(scalarText(p.getText(), property, context, classContext));
+		}
+		else if (token == JsonToken.START_OBJECT) {
+			JsonNode node = ctxt.readValue(p, JsonNode.class);
+			JsonNode value = node.has(VALUE) ? node.get(VALUE) : node.get(ID);
+			if (value == null) {
+				out.writeTree(node);
+			}
+			else if (value.isTextual()) {
+				out.writeString(scalarText(value.textValue(), property, context, classContext));
+			}
+			else {
+				out.writeTree(value);
+			}
+		}
+		else {
+			out.copyCurrentStructure(p);
+		}
+	}
+
+	private String scalarText(String text, String property, JsonldContext context, JsonldContext classContext) {
+		return terms.isVocabValue(property, classContext) ? terms.vocabValue(text, context, classContext) : text;
+	}
+
+	private Object delegate(TokenBuffer buffer, JsonParser p, DeserializationContext ctxt, JsonldContext context,
+			JsonldContext classContext) throws IOException {
+		Object outer = ctxt.getAttribute(JsonldContext.class);
+		Object outerClassContext = ctxt.getAttribute(JsonldTermTable.class);
+		ctxt.setAttribute(JsonldContext.class, context);
+		ctxt.setAttribute(JsonldTermTable.class, classContext);
+		try (JsonParser translated = buffer.asParser(p)) {
+			translated.nextToken();
+			return _delegatee.deserialize(translated, ctxt);
+		}
+		finally {
+			ctxt.setAttribute(JsonldContext.class, outer);
+			ctxt.setAttribute(JsonldTermTable.class, outerClassContext);
+		}
+	}
+
+	private static JsonldContext activeContext(DeserializationContext ctxt) {
+		Object context = ctxt.getAttribute(JsonldContext.class);
+		return context instanceof JsonldContext ? (JsonldContext) context : JsonldContext.EMPTY;
+	}
+
+	private static JsonldContext inheritedClassContext(DeserializationContext ctxt) {
+		Object context = ctxt.getAttribute(JsonldTermTable.class);
+		return context instanceof JsonldContext ? (JsonldContext) context : JsonldContext.EMPTY;
+	}
+}
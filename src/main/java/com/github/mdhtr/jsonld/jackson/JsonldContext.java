@@ -0,0 +1,154 @@
+package com.github.mdhtr.jsonld.jackson;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The active {@code @context} while reading a JSON-LD object: expands terms, compact IRIs and
+ * vocabulary relative values to absolute IRIs. Remote contexts are not loaded.
+ * <p>
+ * Only the contexts of the bean classes remember their expanded terms, up to a limit, as the terms
+ * of the documents are not bounded.
+ */
+final class JsonldContext {
+	static final JsonldContext EMPTY = new JsonldContext(null, Collections.emptyMap(), false);
+	static final int MAX_CACHED_TERMS = 1024;
+
+	private static final String VOCAB = "@vocab";
+	private static final String ID = "@id";
+	private static final String TYPE = "@type";
+
+	private final String vocab;
+	private final Map<String, Object> definitions;
+	private final Map<String, String> expanded;
+
+	private JsonldContext(String vocab, Map<String, Object> definitions, boolean cached) {
+		this.vocab = vocab;
+		this.definitions = definitions;
+		this.expanded = cached ? new ConcurrentHashMap<>() : null;
+	}
+
+	/**
+	 * @return a context with the same definitions that remembers the expanded terms, for a bean class
+	 */
+	JsonldContext cached() {
+		return new JsonldContext(vocab, definitions, true);
+	}
+
+	/**
+	 * @return whether the other context has the same definitions, so this one can be used in its place
+	 */
+	boolean sameAs(JsonldContext other) {
+		return Objects.equals(vocab, other.vocab) && definitions.equals(other.definitions);
+	}
+
+	/**
+	 * @return the number of remembered expanded terms
+	 */
+	int cachedTermCount() {
+		return expanded == null ? 0 : expanded.size();
+	}
+
+	/**
+	 * @param context a {@code @context} value: an object, an array of them, or {@code null}
+	 * @return this context, updated with the given one
+	 */
+	JsonldContext merge(Object context) {
+		if (context == null) {
+			return EMPTY;
+		}
+		if (context instanceof List) {
+			JsonldContext merged = this;
+			for (Object item : (List<?>) context) {
+				merged = merged.merge(item);
+			}
+			return merged;
+		}
+		if (!(context instanceof Map)) {
+			// remote contexts are not supported
+			return this;
+		}
+		String mergedVocab = vocab;
+		Map<String, Object> mergedDefinitions = new HashMap<>(definitions);
+		for (Map.Entry<?, ?> entry : ((Map<?, ?>) context).entrySet()) {
+			String term = String.valueOf(entry.getKey());
+			if (VOCAB.equals(term)) {
+				mergedVocab = entry.getValue() == null ? null : String.valueOf(entry.getValue());
+			}
+			else if (entry.getValue() == null) {
+				mergedDefinitions.remove(term);
+			}
+			else if (!term.startsWith("@")) {
+				mergedDefinitions.put(term, entry.getValue());
+			}
+		}
+		return new JsonldContext(mergedVocab, mergedDefinitions, false);
+	}
+
+	String vocab() {
+		return vocab;
+	}
+
+	/**
+	 * @return the {@code @type} of the term definition, e.g. {@code @id} or {@code @vocab}, or {@code null}
+	 */
+	String typeOf(String term) {
+		Object definition = definitions.get(term);
+		if (definition instanceof Map) {
+			Object type = ((Map<?, ?>) definition).get(TYPE);
+			return type == null ? null : String.valueOf(type);
+		}
+		return null;
+	}
+
+	/**
+	 * @return the absolute IRI of a property name or a vocabulary relative value
+	 */
+	String expand(String term) {
+		if (term.startsWith("@")) {
+			return term;
+		}
+		if (expanded == null) {
+			return expand(term, 0);
+		}
+		String result = expanded.get(term);
+		if (result == null) {
+			result = expand(term, 0);
+			if (expanded.size() < MAX_CACHED_TERMS) {
+				expanded.put(term, result);
+			}
+		}
+		return result;
+	}
+
+	private String expand(String term, int depth) {
+		if (depth > definitions.size()) {
+			// cyclic definitions
+			return term;
+		}
+		Object definition = definitions.get(term);
+		if (definition instanceof Map) {
+			definition = ((Map<?, ?>) definition).get(ID);
+			if (definition == null) {
+				return vocab != null ? vocab + term : term;
+			}
+		}
+		if (definition != null && !term.equals(definition)) {
+			return expand(String.valueOf(definition), depth + 1);
+		}
+		int colon = term.indexOf(':');
+		if (colon > 0) {
+			String prefix = term.substring(0, colon);
+			String suffix = term.substring(colon + 1);
+			if (!suffix.startsWith("//") && definitions.get(prefix) instanceof String) {
+				return expand(prefix, depth + 1) + suffix;
+			}
+			return term;
+		}
+		return vocab != null ? vocab + term : term;
+	}
+}
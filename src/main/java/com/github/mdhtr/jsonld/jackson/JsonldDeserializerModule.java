@@ -0,0 +1,48 @@
+package com.github.mdhtr.jsonld.jackson;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerBase;
+import com.fasterxml.jackson.databind.deser.BeanDeserializerModifier;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Reads compacted JSON-LD documents straight into beans written for JSON-LD output, i.e. beans with
+ * {@code @id}, {@code @type} or {@code @context} properties, without going through an RDF model.
+ * Keys are resolved with the {@code @context} of the document and matched to properties by the
+ * IRI they expand to with the {@code @context} of the bean.
+ * <p>
+ * Beans annotated for the jackson-jsonld module or hydra-jsonld are read with the context those write.
+ * Only inline contexts are used, remote contexts are not loaded.
+ */
+public class JsonldDeserializerModule extends SimpleModule {
+	private static final long serialVersionUID = 1L;
+
+	public JsonldDeserializerModule() {
+		super(JsonldDeserializerModule.class.getSimpleName());
+	}
+
+	@Override
+	public void setupModule(SetupContext context) {
+		super.setupModule(context);
+
+		context.addBeanDeserializerModifier(new BeanDeserializerModifier() {
+
+			@Override
+			public JsonDeserializer<?> modifyDeserializer(
+					DeserializationConfig config,
+					BeanDescription beanDesc,
+					JsonDeserializer<?> deserializer) {
+
+				if (deserializer instanceof BeanDeserializerBase) {
+					JsonldTermTable terms = JsonldTermTable.of(config, beanDesc);
+					if (terms != null) {
+						return new JsonldBeanDeserializer(deserializer, terms);
+					}
+				}
+				return deserializer;
+			}
+		});
+	}
+}
@@ -0,0 +1,212 @@
+package com.github.mdhtr.jsonld.jackson;
+
+import java.lang.reflect.Modifier;
+import java.net.URI;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.DeserializationConfig;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+
+/**
+ * The JSON-LD view of a bean class, built once per class: which absolute IRI each property stands for
+ * and how the property values have to be read. The IRIs come from the {@code @context} the class writes,
+ * or, for classes without one, from the context of the bean they are nested in.
+ * Beans written by the jackson-jsonld module or hydra-jsonld have no {@code @context} property,
+ * their context is built from the same annotations the serializers read.
+ */
+final class JsonldTermTable {
+	private static final String CONTEXT = "@context";
+	private static final String ID = "@id";
+	private static final String TYPE = "@type";
+	private static final String VOCAB = "@vocab";
+
+	private final Set<String> properties;
+	private final Set<String> constants;
+	private final Set<String> scalars;
+	private final Set<String> enums;
+	private final JsonldContext own;
+	// keyed by the identity of the class context, which is held by the term table of the enclosing class
+	private final Map<JsonldContext, Index> indexes = new ConcurrentHashMap<>();
+
+	private JsonldTermTable(Set<String> properties, Set<String> constants, Set<String> scalars, Set<String> enums,
+			JsonldContext own) {
+		this.properties = properties;
+		this.constants = constants;
+		this.scalars = scalars;
+		this.enums = enums;
+		this.own = own;
+	}
+
+	/**
+	 * @return the term table of the bean, or {@code null} if the bean has no JSON-LD keyword properties
+	 * and no JSON-LD annotations
+	 */
+	static JsonldTermTable of(DeserializationConfig config, BeanDescription beanDesc) {
+		List<BeanPropertyDefinition> definitions = beanDesc.findProperties();
+		Map<String, Object> annotationContext = JsonldAnnotationContext.of(beanDesc, definitions);
+		if (annotationContext == null
+				&& definitions.stream().noneMatch(definition -> definition.getName().startsWith("@"))) {
+			return null;
+		}
+		Set<String> properties = new HashSet<>();
+		Set<String> constants = new HashSet<>();
+		Set<String> scalars = new HashSet<>();
+		Set<String> enums = new HashSet<>();
+		boolean hasContext = false;
+		for (BeanPropertyDefinition definition : definitions) {
+			String name = definition.getName();
+			Class<?> type = definition.getRawPrimaryType();
+			properties.add(name);
+			hasContext |= CONTEXT.equals(name);
+			if (isConstant(definition)) {
+				constants.add(name);
+			}
+			if (isScalar(type)) {
+				scalars.add(name);
+			}
+			if (type.isEnum()) {
+				enums.add(name);
+			}
+		}
+		JsonldContext own = null;
+		if (hasContext) {
+			own = JsonldContext.EMPTY.merge(defaultContext(config, beanDesc, definitions)).cached();
+		}
+		else if (annotationContext != null) {
+			own = JsonldContext.EMPTY.merge(annotationContext).cached();
+			if (properties.add(TYPE)) {
+				// written from the class annotations, skipped like a constant property
+				constants.add(TYPE);
+			}
+		}
+		return new JsonldTermTable(properties, constants, scalars, enums, own);
+	}
+
+	/**
+	 * @param inherited the class context of the enclosing bean
+	 * @return the context the class writes its properties with
+	 */
+	JsonldContext classContext(JsonldContext inherited) {
+		return own != null ? own : inherited;
+	}
+
+	/**
+	 * @return the name of the property the key of the JSON-LD object stands for,
+	 * or {@code null} if the bean has no such property
+	 */
+	String property(String key, JsonldContext context, JsonldContext classContext) {
+		String name = index(classContext).propertiesByIri.get(context.expand(key));
+		if (name != null) {
+			return name;
+		}
+		return properties.contains(key) ? key : null;
+	}
+
+	boolean hasId() {
+		return properties.contains(ID);
+	}
+
+	/**
+	 * @return whether the property is fixed by the class, e.g. its {@code @context} or {@code @type}
+	 */
+	boolean isConstant(String property) {
+		return constants.contains(property);
+	}
+
+	/**
+	 * @return whether the property holds a plain value, so node and value objects are unwrapped for it
+	 */
+	boolean isScalar(String property) {
+		return scalars.contains(property);
+	}
+
+	/**
+	 * @return whether the values of the property are written relative to the vocabulary, e.g. enums
+	 */
+	boolean isVocabValue(String property, JsonldContext classContext) {
+		return enums.contains(property) || VOCAB.equals(classContext.typeOf(property));
+	}
+
+	/**
+	 * @return the value relative to the vocabulary of the class, e.g. {@code Female} for {@code http://schema.org/Female}
+	 */
+	String vocabValue(String value, JsonldContext context, JsonldContext classContext) {
+		String iri = context.expand(value);
+		String vocab = classContext.vocab();
+		if (vocab != null && iri.length() > vocab.length() && iri.startsWith(vocab)) {
+			return iri.substring(vocab.length());
+		}
+		return value;
+	}
+
+	private Index index(JsonldContext classContext) {
+		Index index = indexes.get(classContext);
+		if (index == null) {
+			index = new Index(classContext, properties);
+			indexes.put(classContext, index);
+		}
+		return index;
+	}
+
+	private static Object defaultContext(DeserializationConfig config, BeanDescription beanDesc,
+			List<BeanPropertyDefinition> definitions) {
+		for (BeanPropertyDefinition definition : definitions) {
+			if (CONTEXT.equals(definition.getName()) && definition.getAccessor() != null) {
+				try {
+					Object bean = beanDesc.instantiateBean(config.canOverrideAccessModifiers());
+					if (bean == null) {
+						return null;
+					}
+					AnnotatedMember accessor = definition.getAccessor();
+					accessor.fixAccess(true);
+					return accessor.getValue(bean);
+				}
+				catch (RuntimeException e) {
+					// no default constructor to read the context with
+					return null;
+				}
+			}
+		}
+		return null;
+	}
+
+	private static boolean isConstant(BeanPropertyDefinition definition) {
+		return definition.hasField()
+				&& Modifier.isFinal(definition.getField().getModifiers())
+				&& !definition.hasSetter()
+				&& !definition.hasConstructorParameter();
+	}
+
+	private static boolean isScalar(Class<?> type) {
+		return type.isPrimitive()
+				|| type.isEnum()
+				|| CharSequence.class.isAssignableFrom(type)
+				|| Number.class.isAssignableFrom(type)
+				|| type == Boolean.class
+				|| type == Character.class
+				|| type == URL.class
+				|| type == URI.class
+				|| type == UUID.class;
+	}
+
+	private static final class Index {
+		private final Map<String, String> propertiesByIri = new HashMap<>();
+
+		private Index(JsonldContext classContext, Set<String> properties) {
+			for (String property : properties) {
+				if (!property.startsWith("@")) {
+					propertiesByIri.put(classContext.expand(property), property);
+				}
+			}
+		}
+	}
+}
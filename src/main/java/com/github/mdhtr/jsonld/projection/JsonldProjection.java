@@ -0,0 +1,165 @@
+package com.github.mdhtr.jsonld.projection;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.filter.TokenFilter;
+
+/**
+ * A compiled field selection, e.g. {@code @id,@type,name,knowsAbout(@id,name)}.
+ * <p>
+ * Selected properties are written with their whole value, unless a nested selection is given in
+ * parentheses. The {@code @context} objects are pruned to the keywords, the selected terms and the
+ * terms defining a namespace prefix, so that the remaining compact IRIs can still be expanded.
+ * Used as a {@link TokenFilter}, so it works with whatever serializer writes the tokens.
+ */
+public final class JsonldProjection extends TokenFilter {
+	private static final String CONTEXT = "@context";
+
+	private final String expression;
+	private final Map<String, TokenFilter> properties;
+	private final TokenFilter contextFilter;
+
+	private JsonldProjection(String expression, Map<String, TokenFilter> properties, TokenFilter contextFilter) {
+		this.expression = expression;
+		this.properties = properties;
+		this.contextFilter = contextFilter;
+	}
+
+	/**
+	 * @param expression comma separated property names, each optionally followed by a nested selection
+	 *                   in parentheses
+	 * @throws IllegalArgumentException if the expression is malformed
+	 */
+	public static JsonldProjection compile(String expression) {
+		return new Parser(expression).parse();
+	}
+
+	@Override
+	public TokenFilter includeProperty(String name) {
+		if (CONTEXT.equals(name)) {
+			return contextFilter;
+		}
+		return properties.get(name);
+	}
+
+	@Override
+	public String toString() {
+		return expression;
+	}
+
+	private static final class ContextFilter extends TokenFilter {
+		private final Set<String> terms;
+
+		private ContextFilter(Set<String> terms) {
+			this.terms = terms;
+		}
+
+		@Override
+		public TokenFilter includeProperty(String name) {
+			if (name.startsWith("@") || terms.contains(name)) {
+				return INCLUDE_ALL;
+			}
+			return PrefixFilter.INSTANCE;
+		}
+	}
+
+	/**
+	 * Keeps a term definition only if it maps a prefix to a namespace IRI.
+	 */
+	private static final class PrefixFilter extends TokenFilter {
+		private static final PrefixFilter INSTANCE = new PrefixFilter();
+
+		@Override
+		public TokenFilter filterStartObject() {
+			return null;
+		}
+
+		@Override
+		public TokenFilter filterStartArray() {
+			return null;
+		}
+
+		@Override
+		public boolean includeString(String value) {
+			return value.endsWith("/") || value.endsWith("#") || value.endsWith(":");
+		}
+
+		@Override
+		protected boolean _includeScalar() {
+			return false;
+		}
+	}
+
+	private static final class Parser {
+		private final String expression;
+		private final Set<String> terms = new HashSet<>();
+		private final TokenFilter contextFilter = new ContextFilter(Collections.unmodifiableSet(terms));
+		private int position;
+
+		private Parser(String expression) {
+			this.expression = expression;
+		}
+
+		private JsonldProjection parse() {
+			JsonldProjection projection = parseSelection();
+			if (position < expression.length()) {
+				throw error("unexpected '" + expression.charAt(position) + "'");
+			}
+			return projection;
+		}
+
+		private JsonldProjection parseSelection() {
+			int start = position;
+			Map<String, TokenFilter> properties = new LinkedHashMap<>();
+			while (true) {
+				String name = parseName();
+				TokenFilter filter = INCLUDE_ALL;
+				if (position < expression.length() && expression.charAt(position) == '(') {
+					position++;
+					filter = parseSelection();
+					if (position >= expression.length() || expression.charAt(position) != ')') {
+						throw error("missing ')'");
+					}
+					position++;
+					skipWhitespace();
+				}
+				properties.put(name, filter);
+				terms.add(name);
+				if (position >= expression.length() || expression.charAt(position) != ',') {
+					break;
+				}
+				position++;
+			}
+			return new JsonldProjection(expression.substring(start, position).trim(),
+					Collections.unmodifiableMap(properties), contextFilter);
+		}
+
+		private String parseName() {
+			skipWhitespace();
+			int start = position;
+			while (position < expression.length() && ",()".indexOf(expression.charAt(position)) < 0) {
+				position++;
+			}
+			String name = expression.substring(start, position).trim();
+			if (name.isEmpty()) {
+				throw error("missing property name");
+			}
+			return name;
+		}
+
+		private void skipWhitespace() {
+			while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+				position++;
+			}
+		}
+
+		private IllegalArgumentException error(String message) {
+			return new IllegalArgumentException(
+					"Invalid projection '" + expression + "' at position " + position + ": " + message);
+		}
+	}
+}
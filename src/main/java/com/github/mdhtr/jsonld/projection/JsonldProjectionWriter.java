@@ -0,0 +1,85 @@
+package com.github.mdhtr.jsonld.projection;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.filter.FilteringGeneratorDelegate;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+/**
+ * Writes values through an {@link ObjectWriter}, keeping only the properties selected by a
+ * {@link JsonldProjection}. The projections are compiled once per expression and reused, and the
+ * writer keeps using the serializers Jackson has already built for the value types.
+ */
+public class JsonldProjectionWriter {
+	private static final int MAX_CACHED_PROJECTIONS = 1000;
+
+	private final ObjectWriter writer;
+	private final ConcurrentMap<String, JsonldProjection> projections = new ConcurrentHashMap<>();
+
+	public JsonldProjectionWriter(ObjectWriter writer) {
+		this.writer = writer;
+	}
+
+	public String writeValueAsString(Object value, String projection) throws JsonProcessingException {
+		StringWriter out = new StringWriter();
+		try {
+			write(writer.getFactory().createGenerator(out), value, projection);
+		}
+		catch (JsonProcessingException e) {
+			throw e;
+		}
+		catch (IOException e) {
+			throw JsonMappingException.fromUnexpectedIOE(e);
+		}
+		return out.toString();
+	}
+
+	public byte[] writeValueAsBytes(Object value, String projection) throws JsonProcessingException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try {
+			write(writer.getFactory().createGenerator(out, JsonEncoding.UTF8), value, projection);
+		}
+		catch (JsonProcessingException e) {
+			throw e;
+		}
+		catch (IOException e) {
+			throw JsonMappingException.fromUnexpectedIOE(e);
+		}
+		return out.toByteArray();
+	}
+
+	public void writeValue(OutputStream out, Object value, String projection) throws IOException {
+		write(writer.getFactory().createGenerator(out, JsonEncoding.UTF8), value, projection);
+	}
+
+	/**
+	 * @return the compiled projection, from the cache if it was used before
+	 * @throws IllegalArgumentException if the expression is malformed
+	 */
+	public JsonldProjection projection(String expression) {
+		JsonldProjection projection = projections.get(expression);
+		if (projection != null) {
+			return projection;
+		}
+		projection = JsonldProjection.compile(expression);
+		if (projections.size() < MAX_CACHED_PROJECTIONS) {
+			projections.putIfAbsent(expression, projection);
+		}
+		return projection;
+	}
+
+	private void write(JsonGenerator generator, Object value, String projection) throws IOException {
+		try (JsonGenerator filtering = new FilteringGeneratorDelegate(generator, projection(projection), true, true)) {
+			writer.writeValue(filtering, value);
+		}
+	}
+}
@@ -0,0 +1,26 @@
+package com.github.mdhtr.jsonld.schema;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+
+/**
+ * Reads a bean of a {@link JsonldSchema} type without reflection, from the compaction its writer produces.
+ */
+public interface JsonldBeanReader<T> {
+	/**
+	 * @param parser a parser at the start of the object, or before it
+	 * @param ctxt   the context of the {@code ObjectMapper} that handles unknown properties,
+	 *               or {@code null} to read like one with the default configuration
+	 * @return the bean, or {@code null} for a JSON null; the parser is left at the end of the object
+	 */
+	T read(JsonParser parser, DeserializationContext ctxt) throws IOException;
+
+	/**
+	 * Reads the bean like an {@code ObjectMapper} with the default configuration, failing on unknown properties.
+	 */
+	default T read(JsonParser parser) throws IOException {
+		return read(parser, null);
+	}
+}
@@ -0,0 +1,24 @@
+package com.github.mdhtr.jsonld.schema;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * Writes a bean of a {@link JsonldSchema} type without reflection.
+ */
+public interface JsonldBeanWriter<T> {
+	/**
+	 * @param provider the provider of the {@code ObjectMapper} whose inclusion settings are applied,
+	 *                 or {@code null} to write like one with the default configuration
+	 */
+	void write(T bean, JsonGenerator generator, SerializerProvider provider) throws IOException;
+
+	/**
+	 * Writes the bean like an {@code ObjectMapper} with the default configuration, nulls included.
+	 */
+	default void write(T bean, JsonGenerator generator) throws IOException {
+		write(bean, generator, null);
+	}
+}
@@ -0,0 +1,44 @@
+package com.github.mdhtr.jsonld.schema;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.fasterxml.jackson.core.json.WriterBasedJsonGenerator;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * The value of a constant property, e.g. the {@code @context}, serialized once for the generated writers.
+ * <p>
+ * It is copied as raw JSON text to plain JSON generators, and replayed token by token to every other
+ * generator, so that token buffers, filtering generators and pretty printers see it like any other value.
+ */
+public final class JsonldConstant {
+	private final SerializedString json;
+	private final TokenBuffer tokens;
+
+	JsonldConstant(SerializedString json, TokenBuffer tokens) {
+		this.json = json;
+		this.tokens = tokens;
+	}
+
+	public void write(JsonGenerator generator) throws IOException {
+		if (isPlainJson(generator)) {
+			generator.writeRawValue(json);
+		}
+		else {
+			tokens.serialize(generator);
+		}
+	}
+
+	private static boolean isPlainJson(JsonGenerator generator) {
+		// the raw text is written without the pretty printer and the escaping settings of the generator
+		Class<?> type = generator.getClass();
+		return (type == UTF8JsonGenerator.class || type == WriterBasedJsonGenerator.class)
+				&& generator.getPrettyPrinter() == null
+				&& generator.getCharacterEscapes() == null
+				&& !generator.isEnabled(JsonWriteFeature.ESCAPE_NON_ASCII.mappedFeature());
+	}
+}
@@ -0,0 +1,20 @@
+package com.github.mdhtr.jsonld.schema;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a bean with a fixed JSON-LD shape, for which the {@link JsonldSchemaProcessor} generates a
+ * {@link JsonldBeanWriter} and a {@link JsonldBeanReader} at build time.
+ * <p>
+ * The properties are the fields of the bean, named and ordered as Jackson does with
+ * {@code @JsonProperty} and {@code @JsonPropertyOrder}. Final fields, e.g. the {@code @context}
+ * and the {@code @type}, are constants: they are read from a bean made with the no-argument
+ * constructor and written from the same bytes every time.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface JsonldSchema {
+}
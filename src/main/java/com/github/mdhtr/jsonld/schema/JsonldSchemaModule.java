@@ -0,0 +1,48 @@
+package com.github.mdhtr.jsonld.schema;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Uses the generated writers and readers of the given {@link JsonldSchema} types in an {@code ObjectMapper},
+ * instead of the serializers and deserializers Jackson builds by introspection.
+ */
+public class JsonldSchemaModule extends SimpleModule {
+	private static final long serialVersionUID = 1L;
+
+	public JsonldSchemaModule(Class<?>... types) {
+		super(JsonldSchemaModule.class.getSimpleName());
+		for (Class<?> type : types) {
+			register(type);
+		}
+	}
+
+	private <T> void register(Class<T> type) {
+		JsonldBeanWriter<T> writer = JsonldSchemas.writerFor(type);
+		JsonldBeanReader<T> reader = JsonldSchemas.readerFor(type);
+
+		addSerializer(type, new StdSerializer<T>(type) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public void serialize(T value, JsonGenerator generator, SerializerProvider provider) throws IOException {
+				writer.write(value, generator, provider);
+			}
+		});
+		addDeserializer(type, new StdDeserializer<T>(type) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public T deserialize(JsonParser parser, DeserializationContext ctxt) throws IOException {
+				return reader.read(parser, ctxt);
+			}
+		});
+	}
+}
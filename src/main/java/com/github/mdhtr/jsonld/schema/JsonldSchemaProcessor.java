@@ -0,0 +1,567 @@
+package com.github.mdhtr.jsonld.schema;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * Generates a {@link JsonldBeanWriter} and a {@link JsonldBeanReader} for each {@link JsonldSchema} type:
+ * field names are pre-quoted {@code SerializedString}s, constants are serialized once as {@link JsonldConstant}s,
+ * and the values are read and written through direct getter and setter calls. Nested {@link JsonldSchema} types use
+ * their own generated classes, values of other types are left to the {@code ObjectMapper}. Null values are left
+ * out when the inclusion of the {@code ObjectMapper} excludes them, and unknown properties are reported through its
+ * {@code DeserializationContext}, unless the type has {@code @JsonIgnoreProperties(ignoreUnknown = true)}.
+ * <p>
+ * Getters and setters generated by Lombok are expected from {@code @Data}, {@code @Getter} and {@code @Setter}.
+ * The processor is not registered as a service, it has to be listed with the other annotation processors
+ * of the compiler.
+ */
+@SupportedAnnotationTypes("com.github.mdhtr.jsonld.schema.JsonldSchema")
+public class JsonldSchemaProcessor extends AbstractProcessor {
+	private static final String GETTER_ANNOTATIONS = "lombok.Data lombok.Value lombok.Getter";
+	private static final String SETTER_ANNOTATIONS = "lombok.Data lombok.Setter";
+	private static final String CONSTRUCTOR_ANNOTATIONS = "lombok.Data lombok.NoArgsConstructor";
+	private static final Map<String, String> NUMBER_TYPES = Map.of(
+			"int", "Int", "java.lang.Integer", "Int",
+			"long", "Long", "java.lang.Long", "Long",
+			"double", "Double", "java.lang.Double", "Double",
+			"float", "Float", "java.lang.Float", "Float",
+			"java.math.BigDecimal", "Decimal",
+			"java.math.BigInteger", "BigInteger");
+	private static final Map<String, String> STRING_TYPES = Map.of(
+			"java.lang.String", "%s",
+			"java.net.URL", "new java.net.URL(%s)",
+			"java.net.URI", "java.net.URI.create(%s)",
+			"java.util.UUID", "java.util.UUID.fromString(%s)");
+
+	private enum Kind {
+		CONSTANT, STRING, ENUM, BOOLEAN, NUMBER, SCHEMA, OTHER
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		for (Element element : roundEnv.getElementsAnnotatedWith(JsonldSchema.class)) {
+			try {
+				TypeElement type = checkType(element);
+				List<Property> properties = properties(type);
+				writeWriter(type, properties);
+				writeReader(type, properties);
+			}
+			catch (SchemaException e) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+			}
+			catch (IOException e) {
+				processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+						"Could not write the generated classes: " + e.getMessage(), element);
+			}
+		}
+		return true;
+	}
+
+	private TypeElement checkType(Element element) {
+		if (element.getKind() != ElementKind.CLASS) {
+			throw new SchemaException(element, "@JsonldSchema is only supported on classes");
+		}
+		TypeElement type = (TypeElement) element;
+		for (Element enclosing = type; enclosing.getKind().isClass(); enclosing = enclosing.getEnclosingElement()) {
+			if (enclosing.getModifiers().contains(Modifier.PRIVATE)) {
+				throw new SchemaException(element, "@JsonldSchema types and their enclosing classes must not be private");
+			}
+		}
+		if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)
+				|| type.getNestingKind() == NestingKind.LOCAL || type.getNestingKind() == NestingKind.ANONYMOUS) {
+			throw new SchemaException(element, "@JsonldSchema types must be top-level or static nested classes");
+		}
+		if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+			throw new SchemaException(element, "@JsonldSchema types must not be abstract");
+		}
+		boolean noArgsConstructor = ElementFilter.constructorsIn(type.getEnclosedElements()).stream()
+				.anyMatch(constructor -> constructor.getParameters().isEmpty()
+						&& !constructor.getModifiers().contains(Modifier.PRIVATE));
+		if (!noArgsConstructor && !hasAnnotation(type, CONSTRUCTOR_ANNOTATIONS)) {
+			throw new SchemaException(element, "@JsonldSchema types need a no-argument constructor");
+		}
+		return type;
+	}
+
+	private List<Property> properties(TypeElement type) {
+		Deque<TypeElement> hierarchy = new ArrayDeque<>();
+		for (TypeElement current = type; current != null; current = superclass(current)) {
+			hierarchy.push(current);
+		}
+		List<Property> properties = new ArrayList<>();
+		for (TypeElement declaring : hierarchy) {
+			for (VariableElement field : ElementFilter.fieldsIn(declaring.getEnclosedElements())) {
+				Set<Modifier> modifiers = field.getModifiers();
+				if (!modifiers.contains(Modifier.STATIC) && !modifiers.contains(Modifier.TRANSIENT)
+						&& field.getAnnotation(JsonIgnore.class) == null) {
+					properties.add(property(declaring, field));
+				}
+			}
+		}
+		order(type, properties);
+		return properties;
+	}
+
+	private Property property(TypeElement declaring, VariableElement field) {
+		Property property = new Property();
+		property.fieldName = field.getSimpleName().toString();
+		JsonProperty jsonProperty = field.getAnnotation(JsonProperty.class);
+		property.name = jsonProperty != null && !jsonProperty.value().isEmpty() ? jsonProperty.value() : property.fieldName;
+		property.type = field.asType();
+		String typeName = erasure(property.type);
+		boolean primitive = property.type.getKind().isPrimitive();
+		property.getter = accessor(declaring, field, property.type.getKind() == TypeKind.BOOLEAN ? "is" : "get",
+				GETTER_ANNOTATIONS, 0);
+
+		if (field.getModifiers().contains(Modifier.FINAL)) {
+			property.kind = Kind.CONSTANT;
+			JsonPropertyOrder order = field.getAnnotation(JsonPropertyOrder.class);
+			property.sortMaps = order != null && order.alphabetic();
+			return property;
+		}
+		property.setter = accessor(declaring, field, "set", SETTER_ANNOTATIONS, 1);
+
+		Element element = processingEnv.getTypeUtils().asElement(property.type);
+		TypeElement typeElement = element instanceof TypeElement ? (TypeElement) element : null;
+		if (typeName.equals("boolean") || typeName.equals("java.lang.Boolean")) {
+			property.kind = Kind.BOOLEAN;
+		}
+		else if (NUMBER_TYPES.containsKey(typeName)) {
+			property.kind = Kind.NUMBER;
+			property.numberType = NUMBER_TYPES.get(typeName);
+		}
+		else if (STRING_TYPES.containsKey(typeName)) {
+			property.kind = Kind.STRING;
+			property.fromString = STRING_TYPES.get(typeName);
+		}
+		else if (typeElement != null && typeElement.getKind() == ElementKind.ENUM && !hasJsonValue(typeElement)) {
+			property.kind = Kind.ENUM;
+			for (VariableElement constant : ElementFilter.fieldsIn(typeElement.getEnclosedElements())) {
+				if (constant.getKind() == ElementKind.ENUM_CONSTANT) {
+					JsonProperty value = constant.getAnnotation(JsonProperty.class);
+					property.enumConstants.add(constant.getSimpleName().toString());
+					property.enumValues.add(value != null && !value.value().isEmpty()
+							? value.value() : constant.getSimpleName().toString());
+				}
+			}
+		}
+		else if (typeElement != null && typeElement.getAnnotation(JsonldSchema.class) != null) {
+			property.kind = Kind.SCHEMA;
+			property.schemaType = typeElement;
+		}
+		else if (primitive) {
+			throw new SchemaException(field, "Unsupported primitive type " + typeName);
+		}
+		else {
+			property.kind = Kind.OTHER;
+		}
+		return property;
+	}
+
+	/**
+	 * Puts the properties in the order of {@code @JsonPropertyOrder}, by field or property name,
+	 * followed by the rest in the order of declaration, or alphabetically.
+	 */
+	private static void order(TypeElement type, List<Property> properties) {
+		JsonPropertyOrder order = type.getAnnotation(JsonPropertyOrder.class);
+		if (order == null) {
+			return;
+		}
+		List<Property> unordered = new ArrayList<>(properties);
+		if (order.alphabetic()) {
+			unordered.sort(Comparator.comparing(property -> property.name));
+		}
+		properties.clear();
+		for (String name : order.value()) {
+			unordered.stream()
+					.filter(property -> property.fieldName.equals(name) || property.name.equals(name))
+					.findFirst()
+					.ifPresent(property -> {
+						properties.add(property);
+						unordered.remove(property);
+					});
+		}
+		properties.addAll(unordered);
+	}
+
+	/**
+	 * @return the method call or field access reading or writing the field, without the bean and the arguments
+	 */
+	private String accessor(TypeElement declaring, VariableElement field, String prefix, String lombokAnnotations,
+			int parameters) {
+		String fieldName = field.getSimpleName().toString();
+		String method = prefix + Character.toUpperCase(fieldName.charAt(0)) + fieldName.substring(1);
+		boolean declared = ElementFilter.methodsIn(declaring.getEnclosedElements()).stream()
+				.anyMatch(candidate -> candidate.getSimpleName().contentEquals(method)
+						&& candidate.getParameters().size() == parameters
+						&& !candidate.getModifiers().contains(Modifier.PRIVATE));
+		if (declared || hasAnnotation(declaring, lombokAnnotations) || hasAnnotation(field, lombokAnnotations)) {
+			return method;
+		}
+		if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+			return null;
+		}
+		throw new SchemaException(field, "No accessible " + method + " method for " + fieldName);
+	}
+
+	private void writeWriter(TypeElement type, List<Property> properties) throws IOException {
+		String beanType = type.getQualifiedName().toString();
+		try (Source source = new Source(type, JsonldSchemas.WRITER_SUFFIX)) {
+			source.line("public final class %s implements com.github.mdhtr.jsonld.schema.JsonldBeanWriter<%s> {",
+					source.simpleName, beanType);
+			source.line("\tpublic static final %s INSTANCE = new %s();", source.simpleName, source.simpleName);
+			source.line("");
+			for (int i = 0; i < properties.size(); i++) {
+				Property property = properties.get(i);
+				source.line("\tprivate static final com.fasterxml.jackson.core.io.SerializedString NAME_%d = " +
+						"new com.fasterxml.jackson.core.io.SerializedString(%s);", i, literal(property.name));
+				if (property.kind == Kind.CONSTANT) {
+					source.line("\tprivate static final com.github.mdhtr.jsonld.schema.JsonldConstant VALUE_%d;", i);
+				}
+				if (property.kind == Kind.ENUM) {
+					List<String> values = new ArrayList<>();
+					for (String value : property.enumValues) {
+						values.add("new com.fasterxml.jackson.core.io.SerializedString(" + literal(value) + ")");
+					}
+					source.line("\tprivate static final com.fasterxml.jackson.core.io.SerializedString[] VALUES_%d = {%s};",
+							i, String.join(", ", values));
+				}
+			}
+			if (properties.stream().anyMatch(property -> property.kind == Kind.CONSTANT)) {
+				source.line("");
+				source.line("\tstatic {");
+				source.line("\t\t%s prototype = new %s();", beanType, beanType);
+				for (int i = 0; i < properties.size(); i++) {
+					Property property = properties.get(i);
+					if (property.kind == Kind.CONSTANT) {
+						source.line("\t\tVALUE_%d = com.github.mdhtr.jsonld.schema.JsonldSchemas.constant(prototype.%s, %s);",
+								i, read(property), property.sortMaps);
+					}
+				}
+				source.line("\t}");
+			}
+			source.line("");
+			source.line("\tprivate %s() {", source.simpleName);
+			source.line("\t}");
+			source.line("");
+			source.line("\t@Override");
+			source.line("\tpublic void write(%s bean, com.fasterxml.jackson.core.JsonGenerator generator, " +
+					"com.fasterxml.jackson.databind.SerializerProvider provider) throws java.io.IOException {", beanType);
+			if (properties.stream().anyMatch(Property::isNullable)) {
+				source.line("\t\tboolean skipNulls = com.github.mdhtr.jsonld.schema.JsonldSchemas.skipsNulls(provider, %s.class);",
+						beanType);
+			}
+			source.line("\t\tgenerator.writeStartObject(bean);");
+			for (int i = 0; i < properties.size(); i++) {
+				Property property = properties.get(i);
+				if (property.kind == Kind.CONSTANT) {
+					source.line("\t\tgenerator.writeFieldName(NAME_%d);", i);
+					source.line("\t\tVALUE_%d.write(generator);", i);
+				}
+				else if (!property.isNullable()) {
+					source.line("\t\tgenerator.writeFieldName(NAME_%d);", i);
+					source.line("\t\tgenerator.%s(bean.%s);", property.kind == Kind.BOOLEAN ? "writeBoolean" : "writeNumber",
+							read(property));
+				}
+				else {
+					source.line("\t\t%s value%d = bean.%s;", property.type, i, read(property));
+					source.line("\t\tif (value%d != null) {", i);
+					source.line("\t\t\tgenerator.writeFieldName(NAME_%d);", i);
+					source.line("\t\t\t%s;", writeValue(property, "value" + i, i));
+					source.line("\t\t}");
+					source.line("\t\telse if (!skipNulls) {");
+					source.line("\t\t\tgenerator.writeFieldName(NAME_%d);", i);
+					source.line("\t\t\tgenerator.writeNull();");
+					source.line("\t\t}");
+				}
+			}
+			source.line("\t\tgenerator.writeEndObject();");
+			source.line("\t}");
+			source.line("}");
+		}
+	}
+
+	private String writeValue(Property property, String value, int index) {
+		switch (property.kind) {
+			case STRING:
+				return "generator.writeString(" + value + (erasure(property.type).equals("java.lang.String") ? "" : ".toString()") + ")";
+			case ENUM:
+				return "generator.writeString(VALUES_" + index + "[" + value + ".ordinal()])";
+			case BOOLEAN:
+				return "generator.writeBoolean(" + value + ")";
+			case NUMBER:
+				return "generator.writeNumber(" + value + ")";
+			case SCHEMA:
+				return generatedName(property.schemaType, JsonldSchemas.WRITER_SUFFIX) + ".INSTANCE.write(" + value +
+						", generator, provider)";
+			default:
+				return "com.github.mdhtr.jsonld.schema.JsonldSchemas.writeObject(" + value + ", generator, provider)";
+		}
+	}
+
+	private void writeReader(TypeElement type, List<Property> properties) throws IOException {
+		String beanType = type.getQualifiedName().toString();
+		try (Source source = new Source(type, JsonldSchemas.READER_SUFFIX)) {
+			source.line("public final class %s implements com.github.mdhtr.jsonld.schema.JsonldBeanReader<%s> {",
+					source.simpleName, beanType);
+			source.line("\tpublic static final %s INSTANCE = new %s();", source.simpleName, source.simpleName);
+			source.line("");
+			source.line("\tprivate %s() {", source.simpleName);
+			source.line("\t}");
+			source.line("");
+			source.line("\t@Override");
+			source.line("\t@SuppressWarnings(\"unchecked\")");
+			source.line("\tpublic %s read(com.fasterxml.jackson.core.JsonParser parser, " +
+					"com.fasterxml.jackson.databind.DeserializationContext ctxt) throws java.io.IOException {", beanType);
+			source.line("\t\tcom.fasterxml.jackson.core.JsonToken token = parser.currentToken();");
+			source.line("\t\tif (token == null) {");
+			source.line("\t\t\ttoken = parser.nextToken();");
+			source.line("\t\t}");
+			source.line("\t\tif (token == com.fasterxml.jackson.core.JsonToken.VALUE_NULL) {");
+			source.line("\t\t\treturn null;");
+			source.line("\t\t}");
+			source.line("\t\tif (token != com.fasterxml.jackson.core.JsonToken.START_OBJECT) {");
+			source.line("\t\t\tthrow com.fasterxml.jackson.databind.exc.MismatchedInputException.from(parser, %s.class, " +
+					"\"Expected a JSON object for %s\");", beanType, type.getSimpleName());
+			source.line("\t\t}");
+			source.line("\t\t%s bean = new %s();", beanType, beanType);
+			source.line("\t\twhile (parser.nextToken() == com.fasterxml.jackson.core.JsonToken.FIELD_NAME) {");
+			source.line("\t\t\tString name = parser.getCurrentName();");
+			source.line("\t\t\tboolean isNull = parser.nextToken() == com.fasterxml.jackson.core.JsonToken.VALUE_NULL;");
+			source.line("\t\t\tswitch (name) {");
+			for (int i = 0; i < properties.size(); i++) {
+				Property property = properties.get(i);
+				if (property.kind == Kind.CONSTANT) {
+					continue;
+				}
+				source.line("\t\t\t\tcase %s:", literal(property.name));
+				source.line("\t\t\t\t\tbean.%s;", write(property, readValue(property, i)));
+				source.line("\t\t\t\t\tbreak;");
+			}
+			for (Property property : properties) {
+				if (property.kind == Kind.CONSTANT) {
+					source.line("\t\t\t\tcase %s:", literal(property.name));
+				}
+			}
+			if (properties.stream().anyMatch(property -> property.kind == Kind.CONSTANT)) {
+				source.line("\t\t\t\t\tparser.skipChildren();");
+				source.line("\t\t\t\t\tbreak;");
+			}
+			source.line("\t\t\t\tdefault:");
+			JsonIgnoreProperties ignoreProperties = type.getAnnotation(JsonIgnoreProperties.class);
+			if (ignoreProperties != null && ignoreProperties.ignoreUnknown()) {
+				source.line("\t\t\t\t\tparser.skipChildren();");
+			}
+			else {
+				source.line("\t\t\t\t\tcom.github.mdhtr.jsonld.schema.JsonldSchemas.unknownProperty(parser, ctxt, bean, name);");
+			}
+			source.line("\t\t\t\t\tbreak;");
+			source.line("\t\t\t}");
+			source.line("\t\t}");
+			source.line("\t\treturn bean;");
+			source.line("\t}");
+			for (int i = 0; i < properties.size(); i++) {
+				Property property = properties.get(i);
+				if (property.kind != Kind.ENUM) {
+					continue;
+				}
+				source.line("");
+				source.line("\tprivate static %s readEnum%d(com.fasterxml.jackson.core.JsonParser parser) " +
+						"throws java.io.IOException {", property.type, i);
+				source.line("\t\tString text = parser.getText();");
+				source.line("\t\tswitch (text) {");
+				for (int j = 0; j < property.enumConstants.size(); j++) {
+					source.line("\t\t\tcase %s:", literal(property.enumValues.get(j)));
+					source.line("\t\t\t\treturn %s.%s;", property.type, property.enumConstants.get(j));
+				}
+				source.line("\t\t\tdefault:");
+				source.line("\t\t\t\tthrow com.fasterxml.jackson.databind.exc.InvalidFormatException.from(parser, " +
+						"\"Unknown %s value\", text, %s.class);", property.name, property.type);
+				source.line("\t\t}");
+				source.line("\t}");
+			}
+			source.line("}");
+		}
+	}
+
+	private String readValue(Property property, int index) {
+		String value;
+		switch (property.kind) {
+			case STRING:
+				value = String.format(property.fromString, "parser.getText()");
+				break;
+			case ENUM:
+				value = "readEnum" + index + "(parser)";
+				break;
+			case BOOLEAN:
+				value = "parser.getBooleanValue()";
+				break;
+			case NUMBER:
+				value = "parser.get" + property.numberType + "Value()";
+				break;
+			case SCHEMA:
+				return generatedName(property.schemaType, JsonldSchemas.READER_SUFFIX) + ".INSTANCE.read(parser, ctxt)";
+			default:
+				value = "(" + property.type + ") com.github.mdhtr.jsonld.schema.JsonldSchemas.readObject(parser, ctxt, " +
+						erasure(property.type) + ".class)";
+				break;
+		}
+		return property.type.getKind().isPrimitive() ? value : "isNull ? null : " + value;
+	}
+
+	private static String read(Property property) {
+		return property.getter != null ? property.getter + "()" : property.fieldName;
+	}
+
+	private static String write(Property property, String value) {
+		return property.setter != null ? property.setter + "(" + value + ")" : property.fieldName + " = " + value;
+	}
+
+	private String generatedName(TypeElement type, String suffix) {
+		String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+		String simpleName = JsonldSchemas.generatedSimpleName(binaryName, packageName, suffix);
+		return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+	}
+
+	private TypeElement superclass(TypeElement type) {
+		TypeMirror superclass = type.getSuperclass();
+		if (superclass.getKind() != TypeKind.DECLARED) {
+			return null;
+		}
+		TypeElement element = (TypeElement) ((DeclaredType) superclass).asElement();
+		return element.getQualifiedName().contentEquals("java.lang.Object") ? null : element;
+	}
+
+	private String erasure(TypeMirror type) {
+		return processingEnv.getTypeUtils().erasure(type).toString();
+	}
+
+	private static boolean hasJsonValue(TypeElement type) {
+		return ElementFilter.methodsIn(type.getEnclosedElements()).stream()
+				.anyMatch(method -> method.getAnnotation(JsonValue.class) != null);
+	}
+
+	private static boolean hasAnnotation(Element element, String names) {
+		List<String> annotationNames = Arrays.asList(names.split(" "));
+		for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+			TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+			if (annotationNames.contains(annotationType.getQualifiedName().toString())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String literal(String value) {
+		StringBuilder literal = new StringBuilder("\"");
+		for (char c : value.toCharArray()) {
+			if (c == '"' || c == '\\') {
+				literal.append('\\').append(c);
+			}
+			else if (c < 0x20 || c > 0x7e) {
+				literal.append(String.format("\\u%04x", (int) c));
+			}
+			else {
+				literal.append(c);
+			}
+		}
+		return literal.append('"').toString();
+	}
+
+	private static final class Property {
+		private String name;
+		private String fieldName;
+		private TypeMirror type;
+		private Kind kind;
+		private String getter;
+		private String setter;
+		private boolean sortMaps;
+		private String numberType;
+		private String fromString;
+		private TypeElement schemaType;
+		private final List<String> enumConstants = new ArrayList<>();
+		private final List<String> enumValues = new ArrayList<>();
+
+		private boolean isNullable() {
+			return kind != Kind.CONSTANT && !type.getKind().isPrimitive();
+		}
+	}
+
+	/**
+	 * A generated source file in the package of the schema type.
+	 */
+	private final class Source implements AutoCloseable {
+		private final String simpleName;
+		private final PrintWriter writer;
+
+		private Source(TypeElement type, String suffix) throws IOException {
+			String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+			String name = generatedName(type, suffix);
+			simpleName = name.substring(name.lastIndexOf('.') + 1);
+			writer = new PrintWriter(processingEnv.getFiler().createSourceFile(name, type).openWriter());
+			if (!packageName.isEmpty()) {
+				line("package %s;", packageName);
+				line("");
+			}
+			line("@javax.annotation.processing.Generated(\"%s\")", JsonldSchemaProcessor.class.getName());
+		}
+
+		private void line(String format, Object... arguments) {
+			writer.print(String.format(format, arguments));
+			writer.print('\n');
+		}
+
+		@Override
+		public void close() {
+			writer.close();
+		}
+	}
+
+	private static final class SchemaException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		private final transient Element element;
+
+		private SchemaException(Element element, String message) {
+			super(message);
+			this.element = element;
+		}
+	}
+}
@@ -0,0 +1,163 @@
+package com.github.mdhtr.jsonld.schema;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Finds the writers and readers generated for {@link JsonldSchema} types.
+ */
+public final class JsonldSchemas {
+	static final String WRITER_SUFFIX = "JsonldWriter";
+	static final String READER_SUFFIX = "JsonldReader";
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private JsonldSchemas() {
+	}
+
+	public static <T> JsonldBeanWriter<T> writerFor(Class<T> type) {
+		return generated(type, WRITER_SUFFIX);
+	}
+
+	public static <T> JsonldBeanReader<T> readerFor(Class<T> type) {
+		return generated(type, READER_SUFFIX);
+	}
+
+	/**
+	 * Serializes the value of a constant property for the generated writers, without an {@code ObjectMapper}.
+	 *
+	 * @param value    a JSON value made of maps, collections, strings, numbers and booleans
+	 * @param sortMaps whether the entries of maps are written in the order of their keys
+	 */
+	public static JsonldConstant constant(Object value, boolean sortMaps) {
+		StringWriter json = new StringWriter();
+		TokenBuffer tokens = new TokenBuffer(null, false);
+		try (JsonGenerator generator = JSON_FACTORY.createGenerator(json)) {
+			writeConstant(value, sortMaps, generator);
+			writeConstant(value, sortMaps, tokens);
+		}
+		catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return new JsonldConstant(new SerializedString(json.toString()), tokens);
+	}
+
+	/**
+	 * @return whether the generated writers leave out null values, i.e. the inclusion of the provider is
+	 * other than {@code ALWAYS}; empty and default values are still written
+	 */
+	public static boolean skipsNulls(SerializerProvider provider, Class<?> type) {
+		if (provider == null) {
+			return false;
+		}
+		JsonInclude.Include inclusion = provider.getConfig().getDefaultPropertyInclusion(type).getValueInclusion();
+		return inclusion != JsonInclude.Include.ALWAYS && inclusion != JsonInclude.Include.USE_DEFAULTS;
+	}
+
+	/**
+	 * Writes a value of a type without a {@link JsonldSchema} for the generated writers.
+	 */
+	public static void writeObject(Object value, JsonGenerator generator, SerializerProvider provider)
+			throws IOException {
+		if (provider == null) {
+			generator.writeObject(value);
+		}
+		else {
+			provider.defaultSerializeValue(value, generator);
+		}
+	}
+
+	/**
+	 * Reads a value of a type without a {@link JsonldSchema} for the generated readers.
+	 */
+	public static <T> T readObject(JsonParser parser, DeserializationContext ctxt, Class<T> type) throws IOException {
+		return ctxt == null ? parser.readValueAs(type) : ctxt.readValue(parser, type);
+	}
+
+	/**
+	 * Skips or reports a property the generated reader does not know, as the context is configured.
+	 */
+	public static void unknownProperty(JsonParser parser, DeserializationContext ctxt, Object bean, String name)
+			throws IOException {
+		if (ctxt == null) {
+			throw UnrecognizedPropertyException.from(parser, bean, name, null);
+		}
+		ctxt.handleUnknownProperty(parser, null, bean, name);
+	}
+
+	private static void writeConstant(Object value, boolean sortMaps, JsonGenerator generator) throws IOException {
+		if (value == null) {
+			generator.writeNull();
+		}
+		else if (value instanceof Map) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			if (sortMaps) {
+				map = new TreeMap<>(map);
+			}
+			generator.writeStartObject();
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				generator.writeFieldName(String.valueOf(entry.getKey()));
+				writeConstant(entry.getValue(), sortMaps, generator);
+			}
+			generator.writeEndObject();
+		}
+		else if (value instanceof Collection) {
+			generator.writeStartArray();
+			for (Object item : (Collection<?>) value) {
+				writeConstant(item, sortMaps, generator);
+			}
+			generator.writeEndArray();
+		}
+		else if (value instanceof Number) {
+			generator.writeNumber(value.toString());
+		}
+		else if (value instanceof Boolean) {
+			generator.writeBoolean((Boolean) value);
+		}
+		else if (value instanceof Enum) {
+			generator.writeString(((Enum<?>) value).name());
+		}
+		else {
+			generator.writeString(value.toString());
+		}
+	}
+
+	/**
+	 * @return the simple name of the generated class, e.g. {@code Outer_PersonJsonldWriter} for {@code Outer.Person}
+	 */
+	static String generatedSimpleName(String binaryName, String packageName, String suffix) {
+		String name = packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1);
+		return name.replace('$', '_') + suffix;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T generated(Class<?> type, String suffix) {
+		String packageName = type.getPackageName();
+		String simpleName = generatedSimpleName(type.getName(), packageName, suffix);
+		String name = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+		try {
+			return (T) Class.forName(name, true, type.getClassLoader()).getField("INSTANCE").get(null);
+		}
+		catch (ClassNotFoundException e) {
+			throw new IllegalArgumentException("No generated " + suffix + " for " + type.getName()
+					+ ", is it annotated with @JsonldSchema?", e);
+		}
+		catch (ReflectiveOperationException e) {
+			throw new IllegalStateException("Could not load " + name, e);
+		}
+	}
+}
@@ -0,0 +1,158 @@
+package com.github.mdhtr.rdf.rdf4jrio;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.util.URIUtil;
+
+/**
+ * A {@link org.eclipse.rdf4j.model.ValueFactory} that hands out the same instance for repeated
+ * IRIs and short literals, meant to be plugged into {@code RDFParser.setValueFactory}.
+ * <p>
+ * The caches are bounded: once a cache is full, new values are still created, but not
+ * remembered. A cache hit does not allocate. Safe for use by concurrent parsers.
+ */
+public class InterningValueFactory extends SimpleValueFactory {
+	public static final int DEFAULT_MAX_IRIS = 100_000;
+	public static final int DEFAULT_MAX_LITERALS = 100_000;
+	public static final int DEFAULT_MAX_LITERAL_LENGTH = 64;
+	/**
+	 * the maximum number of datatypes and of language tags to keep literals for
+	 */
+	public static final int MAX_LITERAL_KINDS = 64;
+
+	private final int maxIris;
+	private final int maxLiterals;
+	private final int maxLiteralLength;
+
+	private final ConcurrentMap<String, IRI> iris = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, String> namespaces = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, Literal> plainLiterals = new ConcurrentHashMap<>();
+	private final ConcurrentMap<IRI, ConcurrentMap<String, Literal>> typedLiterals = new ConcurrentHashMap<>();
+	private final ConcurrentMap<String, ConcurrentMap<String, Literal>> languageLiterals = new ConcurrentHashMap<>();
+
+	public InterningValueFactory() {
+		this(DEFAULT_MAX_IRIS, DEFAULT_MAX_LITERALS, DEFAULT_MAX_LITERAL_LENGTH);
+	}
+
+	/**
+	 * @param maxIris          the maximum number of IRIs to keep, and of namespaces shared between them
+	 * @param maxLiterals      the maximum number of literals to keep, per datatype or language
+	 * @param maxLiteralLength literals with a longer label are never cached
+	 */
+	public InterningValueFactory(int maxIris, int maxLiterals, int maxLiteralLength) {
+		this.maxIris = maxIris;
+		this.maxLiterals = maxLiterals;
+		this.maxLiteralLength = maxLiteralLength;
+	}
+
+	@Override
+	public IRI createIRI(String iri) {
+		IRI cached = iris.get(iri);
+		if (cached != null) {
+			return cached;
+		}
+		if (iri.indexOf(':') < 0) {
+			throw new IllegalArgumentException("Not a valid (absolute) IRI: " + iri);
+		}
+		int localNameIdx = URIUtil.getLocalNameIndex(iri);
+		IRI created = new NamespacedIRI(
+				internNamespace(iri.substring(0, localNameIdx)),
+				iri.substring(localNameIdx));
+		if (iris.size() >= maxIris) {
+			return created;
+		}
+		IRI existing = iris.putIfAbsent(iri, created);
+		return existing != null ? existing : created;
+	}
+
+	@Override
+	public IRI createIRI(String namespace, String localName) {
+		return createIRI(namespace + localName);
+	}
+
+	@Override
+	public Literal createLiteral(String label) {
+		if (label.length() > maxLiteralLength) {
+			return super.createLiteral(label);
+		}
+		Literal cached = plainLiterals.get(label);
+		return cached != null ? cached : remember(plainLiterals, label, super.createLiteral(label));
+	}
+
+	@Override
+	public Literal createLiteral(String label, IRI datatype) {
+		if (label.length() > maxLiteralLength) {
+			return super.createLiteral(label, datatype);
+		}
+		ConcurrentMap<String, Literal> literals = literalsOf(typedLiterals, datatype);
+		if (literals == null) {
+			return super.createLiteral(label, datatype);
+		}
+		Literal cached = literals.get(label);
+		return cached != null ? cached : remember(literals, label, super.createLiteral(label, datatype));
+	}
+
+	@Override
+	public Literal createLiteral(String label, String language) {
+		if (label.length() > maxLiteralLength) {
+			return super.createLiteral(label, language);
+		}
+		ConcurrentMap<String, Literal> literals = literalsOf(languageLiterals, language);
+		if (literals == null) {
+			return super.createLiteral(label, language);
+		}
+		Literal cached = literals.get(label);
+		return cached != null ? cached : remember(literals, label, super.createLiteral(label, language));
+	}
+
+	/**
+	 * @return the number of IRIs currently cached
+	 */
+	public int cachedIriCount() {
+		return iris.size();
+	}
+
+	/**
+	 * @return the number of distinct namespace strings shared between the created IRIs
+	 */
+	public int namespaceCount() {
+		return namespaces.size();
+	}
+
+	private String internNamespace(String namespace) {
+		String existing = namespaces.get(namespace);
+		if (existing != null) {
+			return existing;
+		}
+		// IRIs like http://example.com/person/1234/address have a namespace per entity, so this is bounded too
+		if (namespaces.size() >= maxIris) {
+			return namespace;
+		}
+		existing = namespaces.putIfAbsent(namespace, namespace);
+		return existing != null ? existing : namespace;
+	}
+
+	/**
+	 * @return the literals of the datatype or language, or {@code null} if there are too many kinds to keep
+	 */
+	private static <K> ConcurrentMap<String, Literal> literalsOf(ConcurrentMap<K, ConcurrentMap<String, Literal>> kinds,
+			K kind) {
+		ConcurrentMap<String, Literal> literals = kinds.get(kind);
+		if (literals != null || kinds.size() >= MAX_LITERAL_KINDS) {
+			return literals;
+		}
+		return kinds.computeIfAbsent(kind, key -> new ConcurrentHashMap<>());
+	}
+
+	private Literal remember(ConcurrentMap<String, Literal> literals, String label, Literal created) {
+		if (literals.size() >= maxLiterals) {
+			return created;
+		}
+		Literal existing = literals.putIfAbsent(label, created);
+		return existing != null ? existing : created;
+	}
+}
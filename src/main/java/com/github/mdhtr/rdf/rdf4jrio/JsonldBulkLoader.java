@@ -0,0 +1,406 @@
+package com.github.mdhtr.rdf.rdf4jrio;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import lombok.Value;
+
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFHandler;
+import org.eclipse.rdf4j.rio.RDFParser;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.helpers.StatementCollector;
+
+/**
+ * Loads large JSON-LD exports made of independent node objects: a JSON array of them, top-level objects
+ * one after the other (e.g. one per line), or the {@code @graph} array of a top-level
+ * {@code {"@context": ..., "@graph": [...]}} document.
+ * <p>
+ * The file is memory-mapped, the objects are located in the mapped bytes and each one is parsed straight
+ * from its slice of the mapping, in parallel. Each object is a separate JSON-LD document: top-level objects
+ * have to carry their own {@code @context}, the nodes of a {@code @graph} get the {@code @context} that
+ * comes before the {@code @graph}, and blank node labels are not shared between objects. A top-level object
+ * with other keys than {@code @context} before its {@code @graph}, e.g. a named graph, is parsed whole,
+ * and has to be smaller than 2 GB. The handler is called from one thread at a time, the statements of an
+ * object are passed on together.
+ */
+public class JsonldBulkLoader {
+	private static final long SEGMENT_SIZE = 1L << 30;
+
+	private final int parallelism;
+	private final ValueFactory valueFactory;
+	private final long segmentSize;
+
+	public JsonldBulkLoader(int parallelism) {
+		this(parallelism, SimpleValueFactory.getInstance());
+	}
+
+	/**
+	 * @param parallelism  the number of objects parsed at the same time
+	 * @param valueFactory the value factory of the parsers, e.g. an {@link InterningValueFactory}
+	 */
+	public JsonldBulkLoader(int parallelism, ValueFactory valueFactory) {
+		this(parallelism, valueFactory, SEGMENT_SIZE);
+	}
+
+	JsonldBulkLoader(int parallelism, ValueFactory valueFactory, long segmentSize) {
+		this.parallelism = parallelism;
+		this.valueFactory = valueFactory;
+		this.segmentSize = segmentSize;
+	}
+
+	public Statistics load(Path file, RDFHandler handler) throws IOException {
+		long start = System.nanoTime();
+		AtomicLong documents = new AtomicLong();
+		AtomicLong statements = new AtomicLong();
+		AtomicReference<Exception> failure = new AtomicReference<>();
+		// bounds the slices waiting to be parsed
+		Semaphore pending = new Semaphore(parallelism * 4);
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+		long size;
+
+		handler.startRDF();
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			size = channel.size();
+			Scanner scanner = new Scanner(channel, size, segmentSize);
+			ByteBuffer document;
+			while (failure.get() == null && (document = scanner.next()) != null) {
+				ByteBuffer slice = document;
+				pending.acquireUninterruptibly();
+				executor.execute(() -> {
+					try {
+						List<Statement> parsed = parse(slice);
+						synchronized (handler) {
+							for (Statement statement : parsed) {
+								handler.handleStatement(statement);
+							}
+						}
+						documents.incrementAndGet();
+						statements.addAndGet(parsed.size());
+					}
+					catch (IOException | RuntimeException e) {
+						failure.compareAndSet(null, e);
+					}
+					finally {
+						pending.release();
+					}
+				});
+			}
+		}
+		finally {
+			executor.shutdown();
+			awaitTermination(executor);
+		}
+		if (failure.get() instanceof IOException) {
+			throw (IOException) failure.get();
+		}
+		if (failure.get() != null) {
+			throw (RuntimeException) failure.get();
+		}
+		handler.endRDF();
+		return new Statistics(size, documents.get(), statements.get(), System.nanoTime() - start);
+	}
+
+	private List<Statement> parse(ByteBuffer document) throws IOException {
+		List<Statement> statements = new ArrayList<>();
+		RDFParser rdfParser = Rio.createParser(RDFFormat.JSONLD);
+		rdfParser.setValueFactory(valueFactory);
+		rdfParser.setRDFHandler(new StatementCollector(statements));
+		rdfParser.parse(new ByteBufferInputStream(document), "");
+		return statements;
+	}
+
+	private static void awaitTermination(ExecutorService executor) {
+		try {
+			while (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+				// keep waiting for the parsers to finish
+			}
+		}
+		catch (InterruptedException e) {
+			executor.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Finds the top-level objects in the mapped file, one segment of the file at a time. In a top-level
+	 * object with a {@code @graph} array, the nodes of the array are split instead, each wrapped in a
+	 * {@code @graph} of its own with the {@code @context} of the object.
+	 */
+	private static final class Scanner {
+		private static final String CONTEXT = "@context";
+		private static final String GRAPH = "@graph";
+
+		private final FileChannel channel;
+		private final long size;
+		private final long segmentSize;
+		private MappedByteBuffer segment;
+		private long segmentStart;
+		private long position;
+		private int baseDepth = -1;
+		private int depth;
+		private boolean inString;
+		private boolean escaped;
+
+		// the keys and values of the current top-level object, when the objects are not in an array
+		private boolean expectKey;
+		private long keyStart = -1;
+		// null outside of a value, empty for keys other than @context and @graph
+		private String key;
+		private long valueStart;
+		private boolean otherKeys;
+		private long contextStart = -1;
+		private long contextEnd;
+		// the start of the documents of the @graph nodes, with the @context copied from the mapping
+		private byte[] graphPrefix;
+		private boolean inGraph;
+		private boolean graphSplit;
+
+		private Scanner(FileChannel channel, long size, long segmentSize) {
+			this.channel = channel;
+			this.size = size;
+			this.segmentSize = segmentSize;
+		}
+
+		/**
+		 * @return the next top-level object or {@code @graph} node, or {@code null} at the end of the file
+		 */
+		private ByteBuffer next() throws IOException {
+			long objectStart = -1;
+			while (position < size) {
+				long at = position;
+				byte b = byteAt(position++);
+				if (inString) {
+					if (escaped) {
+						escaped = false;
+					}
+					else if (b == '\\') {
+						escaped = true;
+					}
+					else if (b == '"') {
+						inString = false;
+						if (keyStart >= 0) {
+							key = at - keyStart <= CONTEXT.length() ? text(keyStart, at) : "";
+							keyStart = -1;
+						}
+					}
+					continue;
+				}
+				switch (b) {
+					case '"':
+						inString = true;
+						if (expectKey) {
+							keyStart = position;
+							expectKey = false;
+						}
+						break;
+					case ':':
+						if (baseDepth == 0 && depth == 1) {
+							valueStart = position;
+						}
+						break;
+					case ',':
+						if (baseDepth == 0 && depth == 1) {
+							endValue(at);
+							expectKey = true;
+						}
+						break;
+					case '[':
+						if (baseDepth < 0) {
+							baseDepth = 1;
+						}
+						depth++;
+						if (baseDepth == 0 && depth == 2 && GRAPH.equals(key) && !otherKeys) {
+							inGraph = true;
+							graphSplit = true;
+						}
+						break;
+					case '{':
+						if (baseDepth < 0) {
+							baseDepth = 0;
+						}
+						if (depth == baseDepth) {
+							objectStart = at;
+							if (baseDepth == 0) {
+								startTopLevelObject();
+							}
+						}
+						else if (inGraph && depth == 2) {
+							objectStart = at;
+						}
+						depth++;
+						break;
+					case ']':
+						depth--;
+						if (inGraph && depth == 1) {
+							inGraph = false;
+						}
+						break;
+					case '}':
+						depth--;
+						if (inGraph && depth == 2 && objectStart >= 0) {
+							return graphNode(objectStart, position);
+						}
+						if (depth == baseDepth && baseDepth == 0) {
+							endValue(at);
+							if (graphSplit) {
+								graphSplit = false;
+								break;
+							}
+						}
+						if (depth == baseDepth && objectStart >= 0) {
+							return slice(objectStart, position);
+						}
+						break;
+					default:
+						break;
+				}
+			}
+			if (objectStart >= 0) {
+				throw new IOException("Unterminated JSON object at byte " + objectStart);
+			}
+			if (depth > 0) {
+				throw new IOException("Unterminated JSON at the end of the file");
+			}
+			return null;
+		}
+
+		private void startTopLevelObject() {
+			expectKey = true;
+			key = null;
+			otherKeys = false;
+			contextStart = -1;
+			graphPrefix = null;
+			graphSplit = false;
+		}
+
+		private void endValue(long end) throws IOException {
+			if (key == null) {
+				return;
+			}
+			if (graphSplit && !GRAPH.equals(key)) {
+				throw new IOException("Only a @context can come before the nodes of a top-level @graph, found " +
+						(key.isEmpty() ? "another key" : key) + " after them at byte " + valueStart);
+			}
+			if (CONTEXT.equals(key)) {
+				contextStart = valueStart;
+				contextEnd = end;
+			}
+			else if (!GRAPH.equals(key)) {
+				otherKeys = true;
+			}
+			key = null;
+		}
+
+		private String text(long start, long end) throws IOException {
+			if (end - start > Integer.MAX_VALUE) {
+				throw new IOException("The value at byte " + start + " is larger than 2 GB");
+			}
+			byte[] bytes = new byte[(int) (end - start)];
+			for (int i = 0; i < bytes.length; i++) {
+				bytes[i] = byteAt(start + i);
+			}
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+
+		private byte byteAt(long index) throws IOException {
+			if (segment == null || index < segmentStart || index >= segmentStart + segment.limit()) {
+				segmentStart = index;
+				segment = channel.map(FileChannel.MapMode.READ_ONLY, index, Math.min(segmentSize, size - index));
+			}
+			return segment.get((int) (index - segmentStart));
+		}
+
+		private ByteBuffer slice(long start, long end) throws IOException {
+			if (start >= segmentStart && end <= segmentStart + segment.limit()) {
+				return segment.duplicate()
+						.position((int) (start - segmentStart))
+						.limit((int) (end - segmentStart))
+						.slice();
+			}
+			if (end - start > Integer.MAX_VALUE) {
+				throw new IOException("The JSON object at byte " + start + " is larger than 2 GB. Only arrays of " +
+						"node objects, node objects one after the other and the nodes of a top-level @graph are split");
+			}
+			// the object started in a previous segment
+			return channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+		}
+
+		/**
+		 * @return the node in a document of its own: {@code {"@context": ..., "@graph": [node]}}
+		 */
+		private ByteBuffer graphNode(long start, long end) throws IOException {
+			if (graphPrefix == null) {
+				graphPrefix = contextStart < 0
+						? "{\"@graph\":[".getBytes(StandardCharsets.UTF_8)
+						: ("{\"" + CONTEXT + "\":" + text(contextStart, contextEnd) + ",\"@graph\":[")
+								.getBytes(StandardCharsets.UTF_8);
+			}
+			byte[] prefix = graphPrefix;
+			ByteBuffer node = slice(start, end);
+			return ByteBuffer.allocate(prefix.length + node.remaining() + 2)
+					.put(prefix)
+					.put(node)
+					.put((byte) ']')
+					.put((byte) '}')
+					.flip();
+		}
+	}
+
+	private static final class ByteBufferInputStream extends InputStream {
+		private final ByteBuffer buffer;
+
+		private ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length) {
+			if (!buffer.hasRemaining()) {
+				return -1;
+			}
+			int read = Math.min(length, buffer.remaining());
+			buffer.get(bytes, offset, read);
+			return read;
+		}
+
+		@Override
+		public int available() {
+			return buffer.remaining();
+		}
+	}
+
+	@Value
+	public static class Statistics {
+		long bytes;
+		long documents;
+		long statements;
+		long elapsedNanos;
+
+		public double megabytesPerSecond() {
+			return bytes / (1024.0 * 1024.0) / (elapsedNanos / 1e9);
+		}
+	}
+}
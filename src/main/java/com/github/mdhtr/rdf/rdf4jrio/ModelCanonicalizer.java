@@ -0,0 +1,444 @@
+package com.github.mdhtr.rdf.rdf4jrio;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.XMLSchema;
+
+/**
+ * Computes blank node labels that do not depend on the labels in the input, so that the same RDF,
+ * e.g. parsed from JSON-LD twice, always gives the same hash.
+ * <p>
+ * Statements are split into ground statements and components connected by blank nodes. The components
+ * JSON-LD produces, nested objects and lists, are trees and are labeled in linear time, bottom up and then
+ * top down. In other components, each blank node starts with the hash of the statements it appears in, like
+ * the first degree hash of RDFC-1.0, and the hashes are refined with the hashes of the neighbouring blank
+ * nodes until they stop splitting. Nodes that still share a hash are told apart one by one, in input order.
+ * The refinement takes a round per node along the longest path, so it is quadratic for long cycles, and
+ * unlike the full RDFC-1.0 algorithm it may label highly symmetric, non-automorphic blank node graphs
+ * differently depending on the input order.
+ * <p>
+ * The ground statements and the components are hashed in parallel, in the common fork-join pool.
+ */
+public class ModelCanonicalizer {
+	private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	});
+	private static final char[] HEX = "0123456789abcdef".toCharArray();
+	private static final String SELF = "_:a";
+	private static final String OTHER = "_:z";
+
+	private final ValueFactory factory;
+
+	public ModelCanonicalizer() {
+		this(SimpleValueFactory.getInstance());
+	}
+
+	public ModelCanonicalizer(ValueFactory factory) {
+		this.factory = factory;
+	}
+
+	/**
+	 * @return the SHA-256 of the model, as a hex string
+	 */
+	public String hash(Model model) {
+		Partition partition = partition(model);
+		Stream<String> ground = partition.ground.parallelStream()
+				.map(statement -> sha256(quad(statement, null)));
+		Stream<String> components = partition.components.parallelStream()
+				.map(component -> label(component).hash);
+		return sha256(Stream.concat(ground, components).sorted().collect(Collectors.joining("\n")));
+	}
+
+	/**
+	 * @return the SHA-256 of the statements of each IRI subject, as hex strings. The blank nodes the
+	 * statements refer to are hashed with everything connected to them through blank nodes, so a change
+	 * anywhere below the subject changes its hash.
+	 */
+	public Map<Resource, String> hashSubjects(Model model) {
+		Partition partition = partition(model);
+		Map<BNode, Labeling> labelings = new ConcurrentHashMap<>();
+		partition.components.parallelStream()
+				.map(this::label)
+				.forEach(labeling -> labeling.hashes.keySet().forEach(node -> labelings.put(node, labeling)));
+		Map<Resource, List<Statement>> subjects = new LinkedHashMap<>();
+		for (Statement statement : model) {
+			if (statement.getSubject() instanceof IRI) {
+				subjects.computeIfAbsent(statement.getSubject(), key -> new ArrayList<>()).add(statement);
+			}
+		}
+		return subjects.entrySet().parallelStream()
+				.collect(Collectors.toMap(Map.Entry::getKey, entry -> hashSubject(entry.getValue(), labelings)));
+	}
+
+	private static String hashSubject(List<Statement> statements, Map<BNode, Labeling> labelings) {
+		// the refined hash of a blank node only reaches a few hops, the component hash covers all of it
+		Set<String> components = new TreeSet<>();
+		List<String> quads = new ArrayList<>(statements.size());
+		for (Statement statement : statements) {
+			quads.add(quad(statement, node -> {
+				Labeling labeling = labelings.get(node);
+				components.add(labeling.hash);
+				return "_:" + labeling.hashes.get(node);
+			}));
+		}
+		quads.sort(null);
+		quads.addAll(components);
+		return sha256(String.join("\n", quads));
+	}
+
+	/**
+	 * @return a copy of the model with the blank nodes relabeled {@code c14n0}, {@code c14n1}, ...
+	 */
+	public Model canonicalize(Model model) {
+		Partition partition = partition(model);
+		List<Labeling> labelings = partition.components.parallelStream()
+				.map(this::label)
+				.sorted(Comparator.comparing(labeling -> labeling.hash))
+				.collect(Collectors.toList());
+		Map<BNode, BNode> labels = new HashMap<>();
+		for (Labeling labeling : labelings) {
+			labeling.hashes.entrySet().stream()
+					.sorted(Map.Entry.comparingByValue())
+					.forEach(entry -> labels.put(entry.getKey(), factory.createBNode("c14n" + labels.size())));
+		}
+		Model canonical = new LinkedHashModel(model.size());
+		for (Statement statement : model) {
+			canonical.add(
+					relabel(statement.getSubject(), labels),
+					statement.getPredicate(),
+					relabel(statement.getObject(), labels),
+					statement.getContext() == null ? new Resource[0] : new Resource[]{relabel(statement.getContext(), labels)});
+		}
+		return canonical;
+	}
+
+	private static <T extends Value> T relabel(T value, Map<BNode, BNode> labels) {
+		@SuppressWarnings("unchecked")
+		T label = (T) labels.get(value);
+		return label != null ? label : value;
+	}
+
+	private static Partition partition(Model model) {
+		Map<BNode, BNode> parents = new HashMap<>();
+		List<Statement> ground = new ArrayList<>();
+		List<Statement> connected = new ArrayList<>();
+		for (Statement statement : model) {
+			BNode first = null;
+			for (Value value : values(statement)) {
+				if (value instanceof BNode) {
+					BNode node = find(parents, (BNode) value);
+					if (first == null) {
+						first = node;
+					}
+					else if (!first.equals(node)) {
+						parents.put(node, first);
+					}
+				}
+			}
+			(first == null ? ground : connected).add(statement);
+		}
+		Map<BNode, List<Statement>> components = new LinkedHashMap<>();
+		for (Statement statement : connected) {
+			BNode root = find(parents, firstBNode(statement));
+			components.computeIfAbsent(root, key -> new ArrayList<>()).add(statement);
+		}
+		return new Partition(ground, components.values());
+	}
+
+	private static BNode find(Map<BNode, BNode> parents, BNode node) {
+		BNode root = node;
+		BNode parent;
+		while ((parent = parents.get(root)) != null) {
+			root = parent;
+		}
+		// path compression
+		while (!node.equals(root)) {
+			BNode next = parents.get(node);
+			parents.put(node, root);
+			node = next;
+		}
+		return root;
+	}
+
+	private static BNode firstBNode(Statement statement) {
+		for (Value value : values(statement)) {
+			if (value instanceof BNode) {
+				return (BNode) value;
+			}
+		}
+		throw new IllegalArgumentException("No blank node in " + statement);
+	}
+
+	private static Value[] values(Statement statement) {
+		return new Value[]{statement.getSubject(), statement.getObject(), statement.getContext()};
+	}
+
+	private Labeling label(List<Statement> statements) {
+		Map<BNode, List<Statement>> mentions = new LinkedHashMap<>();
+		for (Statement statement : statements) {
+			Set<BNode> nodes = new LinkedHashSet<>();
+			for (Value value : values(statement)) {
+				if (value instanceof BNode) {
+					nodes.add((BNode) value);
+				}
+			}
+			for (BNode node : nodes) {
+				mentions.computeIfAbsent(node, key -> new ArrayList<>()).add(statement);
+			}
+		}
+
+		Map<BNode, String> hashes = treeLabels(statements, mentions);
+		if (hashes == null) {
+			hashes = refinedLabels(mentions);
+		}
+
+		Map<BNode, String> labels = hashes;
+		String hash = sha256(statements.stream()
+				.map(statement -> quad(statement, node -> "_:" + labels.get(node)))
+				.sorted()
+				.collect(Collectors.joining("\n")));
+		return new Labeling(labels, hash);
+	}
+
+	/**
+	 * Labels the blank nodes of a component that is a tree, where each blank node is the object of at most
+	 * one statement of another blank node, as JSON-LD writes nested objects and lists: bottom up with the
+	 * statements below each node, then top down with the path from the root. Children that can be swapped
+	 * are numbered in the order they are found, which does not change the result. This takes linear time,
+	 * where the refinement needs a round per element of a list.
+	 *
+	 * @return the labels, or {@code null} if the component is not a tree
+	 */
+	private static Map<BNode, String> treeLabels(List<Statement> statements, Map<BNode, List<Statement>> mentions) {
+		Map<BNode, Statement> parents = new HashMap<>();
+		Map<BNode, List<BNode>> children = new HashMap<>();
+		for (Statement statement : statements) {
+			if (statement.getContext() instanceof BNode) {
+				return null;
+			}
+			Resource subject = statement.getSubject();
+			Value object = statement.getObject();
+			if (subject instanceof BNode && object instanceof BNode && !subject.equals(object)) {
+				if (parents.put((BNode) object, statement) != null) {
+					return null;
+				}
+				children.computeIfAbsent((BNode) subject, key -> new ArrayList<>()).add((BNode) object);
+			}
+		}
+		// connected, so with one edge less than nodes and a parent each at most, it is a tree
+		if (parents.size() != mentions.size() - 1) {
+			return null;
+		}
+		BNode root = mentions.keySet().stream().filter(node -> !parents.containsKey(node)).findFirst().orElseThrow();
+
+		// parents before their children, without recursing down long lists
+		List<BNode> order = new ArrayList<>(mentions.size());
+		Deque<BNode> stack = new ArrayDeque<>();
+		stack.push(root);
+		while (!stack.isEmpty()) {
+			BNode node = stack.pop();
+			order.add(node);
+			children.getOrDefault(node, Collections.emptyList()).forEach(stack::push);
+		}
+
+		Map<BNode, String> below = new HashMap<>();
+		for (int i = order.size() - 1; i >= 0; i--) {
+			BNode self = order.get(i);
+			List<Statement> statementsBelow = new ArrayList<>(mentions.get(self));
+			statementsBelow.remove(parents.get(self));
+			below.put(self, hashMentions(statementsBelow, node -> node.equals(self) ? SELF : "_:" + below.get(node), ""));
+		}
+
+		Map<BNode, String> labels = new HashMap<>();
+		labels.put(root, sha256(below.get(root)));
+		for (BNode parent : order) {
+			Map<String, Integer> siblings = new HashMap<>();
+			for (BNode child : children.getOrDefault(parent, Collections.emptyList())) {
+				String edge = quad(parents.get(child), node -> node.equals(child) ? SELF : "_:" + labels.get(parent));
+				String label = sha256(below.get(child) + "\n" + edge);
+				int index = siblings.merge(label, 1, Integer::sum) - 1;
+				labels.put(child, index == 0 ? label : sha256(label + "\n" + index));
+			}
+		}
+		return labels;
+	}
+
+	private static Map<BNode, String> refinedLabels(Map<BNode, List<Statement>> mentions) {
+		Map<BNode, String> hashes = new LinkedHashMap<>();
+		for (Map.Entry<BNode, List<Statement>> entry : mentions.entrySet()) {
+			BNode self = entry.getKey();
+			hashes.put(self, hashMentions(entry.getValue(), node -> node.equals(self) ? SELF : OTHER, ""));
+		}
+		int distinct = distinct(hashes);
+		while (true) {
+			Map<BNode, String> refined = new LinkedHashMap<>();
+			for (Map.Entry<BNode, List<Statement>> entry : mentions.entrySet()) {
+				BNode self = entry.getKey();
+				Map<BNode, String> previous = hashes;
+				refined.put(self, hashMentions(entry.getValue(),
+						node -> node.equals(self) ? SELF : "_:" + previous.get(node), previous.get(self)));
+			}
+			hashes = refined;
+			int refinedDistinct = distinct(hashes);
+			if (refinedDistinct > distinct) {
+				distinct = refinedDistinct;
+			}
+			else if (distinct == hashes.size()) {
+				break;
+			}
+			else {
+				individualizeFirstTie(hashes);
+				distinct++;
+			}
+		}
+		return hashes;
+	}
+
+	private static String hashMentions(List<Statement> statements, Function<BNode, String> labels, String seed) {
+		List<String> quads = new ArrayList<>(statements.size());
+		for (Statement statement : statements) {
+			quads.add(quad(statement, labels));
+		}
+		quads.sort(null);
+		return sha256(seed + "\n" + String.join("\n", quads));
+	}
+
+	private static void individualizeFirstTie(Map<BNode, String> hashes) {
+		Set<String> seen = new HashSet<>();
+		Set<String> tied = new HashSet<>();
+		for (String hash : hashes.values()) {
+			if (!seen.add(hash)) {
+				tied.add(hash);
+			}
+		}
+		String smallest = tied.stream().min(Comparator.naturalOrder()).orElseThrow();
+		for (Map.Entry<BNode, String> entry : hashes.entrySet()) {
+			if (entry.getValue().equals(smallest)) {
+				entry.setValue(sha256(smallest + "\n*"));
+				return;
+			}
+		}
+	}
+
+	private static int distinct(Map<BNode, String> hashes) {
+		return new HashSet<>(hashes.values()).size();
+	}
+
+	/**
+	 * @param labels the labels of the blank nodes, or {@code null} for statements without blank nodes
+	 */
+	private static String quad(Statement statement, Function<BNode, String> labels) {
+		StringBuilder builder = new StringBuilder();
+		term(builder, statement.getSubject(), labels).append(' ');
+		term(builder, statement.getPredicate(), labels).append(' ');
+		term(builder, statement.getObject(), labels);
+		if (statement.getContext() != null) {
+			term(builder.append(' '), statement.getContext(), labels);
+		}
+		return builder.append(" .").toString();
+	}
+
+	private static StringBuilder term(StringBuilder builder, Value value, Function<BNode, String> labels) {
+		if (value instanceof BNode) {
+			return builder.append(labels.apply((BNode) value));
+		}
+		if (value instanceof IRI) {
+			return builder.append('<').append(value.stringValue()).append('>');
+		}
+		Literal literal = (Literal) value;
+		builder.append('"');
+		String label = literal.getLabel();
+		for (int i = 0; i < label.length(); i++) {
+			char c = label.charAt(i);
+			switch (c) {
+				case '\\':
+					builder.append("\\\\");
+					break;
+				case '"':
+					builder.append("\\\"");
+					break;
+				case '\n':
+					builder.append("\\n");
+					break;
+				case '\r':
+					builder.append("\\r");
+					break;
+				default:
+					builder.append(c);
+			}
+		}
+		builder.append('"');
+		if (literal.getLanguage().isPresent()) {
+			return builder.append('@').append(literal.getLanguage().get());
+		}
+		if (!XMLSchema.STRING.equals(literal.getDatatype())) {
+			builder.append("^^<").append(literal.getDatatype().stringValue()).append('>');
+		}
+		return builder;
+	}
+
+	private static String sha256(String value) {
+		byte[] digest = SHA_256.get().digest(value.getBytes(StandardCharsets.UTF_8));
+		char[] hex = new char[digest.length * 2];
+		for (int i = 0; i < digest.length; i++) {
+			hex[2 * i] = HEX[(digest[i] >> 4) & 0xf];
+			hex[2 * i + 1] = HEX[digest[i] & 0xf];
+		}
+		return new String(hex);
+	}
+
+	private static final class Partition {
+		private final List<Statement> ground;
+		private final Collection<List<Statement>> components;
+
+		private Partition(List<Statement> ground, Collection<List<Statement>> components) {
+			this.ground = ground;
+			this.components = components;
+		}
+	}
+
+	private static final class Labeling {
+		private final Map<BNode, String> hashes;
+		private final String hash;
+
+		private Labeling(Map<BNode, String> hashes, String hash) {
+			this.hashes = hashes;
+			this.hash = hash;
+		}
+	}
+}
@@ -0,0 +1,181 @@
+package com.github.mdhtr.rdf.rdf4jrio;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.model.vocabulary.XMLSchema;
+
+/**
+ * Frames the nodes of a {@link Model} into nested JSON-LD trees, ready to be written with Jackson.
+ * <p>
+ * The nodes of the framed type are the roots. Every other node they reference is embedded the first
+ * time it is reached, and referenced by {@code @id} after that (like {@code "@embed": "@once"}),
+ * so each statement is visited once. The subject and type indexes are built once, in the constructor,
+ * and shared by all the frames.
+ * <p>
+ * Property IRIs and types starting with the vocabulary are shortened to their local names, and
+ * {@code @context} holds the matching {@code @vocab}.
+ */
+public class ModelFramer {
+	private static final String ID = "@id";
+	private static final String TYPE = "@type";
+
+	private final String vocab;
+	private final Map<Resource, List<Statement>> subjects = new LinkedHashMap<>();
+	private final Map<Value, List<Resource>> types = new HashMap<>();
+
+	/**
+	 * @param model the model to frame, must not change while the framer is used
+	 * @param vocab the vocabulary to shorten the property IRIs with, or {@code null} to keep them absolute
+	 */
+	public ModelFramer(Model model, String vocab) {
+		this.vocab = vocab;
+		for (Statement statement : model) {
+			subjects.computeIfAbsent(statement.getSubject(), key -> new ArrayList<>()).add(statement);
+			if (RDF.TYPE.equals(statement.getPredicate())) {
+				types.computeIfAbsent(statement.getObject(), key -> new ArrayList<>()).add(statement.getSubject());
+			}
+		}
+	}
+
+	/**
+	 * @return a JSON-LD document with a {@code @graph} of the nodes with the given type
+	 */
+	public Map<String, Object> frame(IRI type) {
+		Map<String, Object> document = new LinkedHashMap<>();
+		if (vocab != null) {
+			document.put("@context", Collections.singletonMap("@vocab", vocab));
+		}
+		document.put("@graph", frameNodes(type));
+		return document;
+	}
+
+	/**
+	 * @return the nodes with the given type, with the nodes they reference embedded
+	 */
+	public List<Map<String, Object>> frameNodes(IRI type) {
+		List<Resource> roots = types.getOrDefault(type, Collections.emptyList());
+		Set<Resource> embedded = new HashSet<>(roots);
+		List<Map<String, Object>> nodes = new ArrayList<>(roots.size());
+		for (Resource root : roots) {
+			nodes.add(node(root, embedded));
+		}
+		return nodes;
+	}
+
+	/**
+	 * Embeds depth first, like a recursive walk would, but on a stack of its own, since chains of
+	 * references in large graphs are deeper than the thread stack.
+	 */
+	private Map<String, Object> node(Resource root, Set<Resource> embedded) {
+		Map<String, Object> rootNode = newNode(root);
+		Deque<Frame> stack = new ArrayDeque<>();
+		stack.push(new Frame(rootNode, root));
+		while (!stack.isEmpty()) {
+			Frame frame = stack.peek();
+			if (!frame.statements.hasNext()) {
+				stack.pop();
+				continue;
+			}
+			Statement statement = frame.statements.next();
+			if (RDF.TYPE.equals(statement.getPredicate())) {
+				add(frame.node, TYPE, compact(statement.getObject().stringValue()));
+				continue;
+			}
+			String key = compact(statement.getPredicate().stringValue());
+			Value value = statement.getObject();
+			if (value instanceof Literal) {
+				add(frame.node, key, literal((Literal) value));
+			}
+			else if (subjects.containsKey(value) && embedded.add((Resource) value)) {
+				Map<String, Object> child = newNode((Resource) value);
+				add(frame.node, key, child);
+				stack.push(new Frame(child, (Resource) value));
+			}
+			else {
+				add(frame.node, key, Collections.singletonMap(ID, id((Resource) value)));
+			}
+		}
+		return rootNode;
+	}
+
+	private static Map<String, Object> newNode(Resource subject) {
+		Map<String, Object> node = new LinkedHashMap<>();
+		node.put(ID, id(subject));
+		return node;
+	}
+
+	private static Object literal(Literal literal) {
+		if (XMLSchema.STRING.equals(literal.getDatatype())) {
+			return literal.getLabel();
+		}
+		Map<String, Object> value = new LinkedHashMap<>();
+		value.put("@value", literal.getLabel());
+		if (literal.getLanguage().isPresent()) {
+			value.put("@language", literal.getLanguage().get());
+		}
+		else {
+			value.put(TYPE, literal.getDatatype().stringValue());
+		}
+		return value;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void add(Map<String, Object> node, String key, Object value) {
+		Object existing = node.putIfAbsent(key, value);
+		if (existing instanceof ValueList) {
+			((List<Object>) existing).add(value);
+		}
+		else if (existing != null) {
+			ValueList values = new ValueList();
+			values.add(existing);
+			values.add(value);
+			node.put(key, values);
+		}
+	}
+
+	private String compact(String iri) {
+		if (vocab != null && iri.length() > vocab.length() && iri.startsWith(vocab)) {
+			return iri.substring(vocab.length());
+		}
+		return iri;
+	}
+
+	private static String id(Resource resource) {
+		return resource instanceof BNode ? "_:" + resource.stringValue() : resource.stringValue();
+	}
+
+	private final class Frame {
+		private final Map<String, Object> node;
+		private final Iterator<Statement> statements;
+
+		private Frame(Map<String, Object> node, Resource subject) {
+			this.node = node;
+			this.statements = subjects.getOrDefault(subject, Collections.emptyList()).iterator();
+		}
+	}
+
+	/**
+	 * Marks the lists created for repeated properties, so they are not mistaken for values.
+	 */
+	private static final class ValueList extends ArrayList<Object> {
+		private static final long serialVersionUID = 1L;
+	}
+}
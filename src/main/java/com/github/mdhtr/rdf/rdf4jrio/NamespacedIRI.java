@@ -0,0 +1,74 @@
+package com.github.mdhtr.rdf.rdf4jrio;
+
+import org.eclipse.rdf4j.model.IRI;
+
+/**
+ * An {@link IRI} stored as a namespace and a local name, so that IRIs created by the same
+ * {@link InterningValueFactory} share a single instance of each namespace string.
+ * Equality and hash code follow the {@link IRI} contract, so it is interchangeable with
+ * the IRIs created by {@link org.eclipse.rdf4j.model.impl.SimpleValueFactory}.
+ */
+final class NamespacedIRI implements IRI {
+	private static final long serialVersionUID = 1L;
+
+	private final String namespace;
+	private final String localName;
+	private int hashCode;
+
+	NamespacedIRI(String namespace, String localName) {
+		this.namespace = namespace;
+		this.localName = localName;
+	}
+
+	@Override
+	public String getNamespace() {
+		return namespace;
+	}
+
+	@Override
+	public String getLocalName() {
+		return localName;
+	}
+
+	@Override
+	public String stringValue() {
+		return namespace.concat(localName);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (o instanceof NamespacedIRI) {
+			NamespacedIRI other = (NamespacedIRI) o;
+			return localName.equals(other.localName) && namespace.equals(other.namespace);
+		}
+		if (o instanceof IRI) {
+			String other = ((IRI) o).stringValue();
+			return other.length() == namespace.length() + localName.length()
+					&& other.startsWith(namespace)
+					&& other.endsWith(localName);
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		int h = hashCode;
+		if (h == 0) {
+			// same value as stringValue().hashCode(), without concatenating the two parts
+			h = namespace.hashCode();
+			for (int i = 0; i < localName.length(); i++) {
+				h = 31 * h + localName.charAt(i);
+			}
+			hashCode = h;
+		}
+		return h;
+	}
+
+	@Override
+	public String toString() {
+		return stringValue();
+	}
+}
@@ -0,0 +1,148 @@
+package com.github.mdhtr.concurrency;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import lombok.Value;
+
+/**
+ * Runs a task from many threads at once and compares every result with the expected one, to find
+ * output corrupted by state shared between threads. The threads are released together, so the first
+ * calls, which fill the caches of a fresh mapper, race as well. Besides the wrong results and the
+ * exceptions, it reports how often the threads were blocked on a monitor or parked on a lock while
+ * running the task, from the thread contention monitoring of the JVM.
+ */
+public final class ConcurrentStress {
+	/**
+	 * A lock taken on every call shows up as about one contention per operation, while the locks taken
+	 * to fill the caches of a fresh mapper stay far below this.
+	 */
+	public static final double MAX_CONTENTION_PER_OPERATION = 0.1;
+
+	private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+
+	private ConcurrentStress() {
+	}
+
+	@FunctionalInterface
+	public interface Task {
+		/**
+		 * @param input the index of the expected result
+		 */
+		String run(int input) throws Exception;
+	}
+
+	/**
+	 * @param expected the results of the task for the inputs, computed on one thread with a separate instance
+	 *                 of the tested object; each thread starts at a different input
+	 */
+	public static Report run(int threads, int iterations, String[] expected, Task task) throws InterruptedException {
+		if (THREADS.isThreadContentionMonitoringSupported()) {
+			THREADS.setThreadContentionMonitoringEnabled(true);
+		}
+		CountDownLatch ready = new CountDownLatch(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		AtomicLong mismatches = new AtomicLong();
+		AtomicLong errors = new AtomicLong();
+		AtomicLong blockedCount = new AtomicLong();
+		AtomicLong blockedMillis = new AtomicLong();
+		AtomicLong waitedCount = new AtomicLong();
+		AtomicReference<String> firstMismatch = new AtomicReference<>();
+		AtomicReference<Throwable> firstError = new AtomicReference<>();
+
+		List<Thread> workers = new ArrayList<>();
+		for (int t = 0; t < threads; t++) {
+			int thread = t;
+			workers.add(new Thread(() -> {
+				ready.countDown();
+				try {
+					start.await();
+				}
+				catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+				ThreadInfo before = THREADS.getThreadInfo(Thread.currentThread().getId());
+				for (int i = 0; i < iterations; i++) {
+					int input = (thread + i) % expected.length;
+					try {
+						String result = task.run(input);
+						if (!expected[input].equals(result)) {
+							mismatches.incrementAndGet();
+							firstMismatch.compareAndSet(null, result);
+						}
+					}
+					catch (Exception | AssertionError e) {
+						errors.incrementAndGet();
+						firstError.compareAndSet(null, e);
+					}
+				}
+				ThreadInfo after = THREADS.getThreadInfo(Thread.currentThread().getId());
+				blockedCount.addAndGet(after.getBlockedCount() - before.getBlockedCount());
+				waitedCount.addAndGet(after.getWaitedCount() - before.getWaitedCount());
+				if (after.getBlockedTime() >= 0) {
+					blockedMillis.addAndGet(after.getBlockedTime() - before.getBlockedTime());
+				}
+			}, "stress-" + t));
+		}
+		workers.forEach(Thread::start);
+		ready.await();
+		long startNanos = System.nanoTime();
+		start.countDown();
+		for (Thread worker : workers) {
+			worker.join();
+		}
+		return new Report(threads, (long) threads * iterations, mismatches.get(), errors.get(),
+				firstMismatch.get(), firstError.get(), blockedCount.get(), blockedMillis.get(), waitedCount.get(),
+				System.nanoTime() - startNanos);
+	}
+
+	@Value
+	public static class Report {
+		int threads;
+		long operations;
+		long mismatches;
+		long errors;
+		String firstMismatch;
+		Throwable firstError;
+		/**
+		 * times the threads entered a monitor held by another thread
+		 */
+		long blockedCount;
+		long blockedMillis;
+		/**
+		 * times the threads waited or parked, e.g. on a {@code ReentrantLock}
+		 */
+		long waitedCount;
+		long elapsedNanos;
+
+		public boolean isCorrect() {
+			return mismatches == 0 && errors == 0;
+		}
+
+		public double operationsPerSecond() {
+			return operations / (elapsedNanos / 1e9);
+		}
+
+		/**
+		 * @return the times a thread was blocked or parked, per operation
+		 */
+		public double contentionPerOperation() {
+			return (double) (blockedCount + waitedCount) / operations;
+		}
+
+		public String summary() {
+			return String.format(Locale.ROOT, "%d threads, %d operations, %.0f ops/s, blocked %d times (%d ms), " +
+							"waited %d times, %.4f contentions per operation, %d mismatches, %d errors",
+					threads, operations, operationsPerSecond(), blockedCount, blockedMillis, waitedCount,
+					contentionPerOperation(), mismatches, errors);
+		}
+	}
+}
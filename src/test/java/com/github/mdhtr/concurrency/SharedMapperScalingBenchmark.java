@@ -0,0 +1,119 @@
+package com.github.mdhtr.concurrency;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kburger.rdf4j.beans.BeanMapper;
+import com.github.mdhtr.jsonld.hydrajsonld.HydraConcurrencyTest;
+import com.github.mdhtr.jsonld.jacksonjsonld.JsonldModuleConcurrencyTest;
+import com.github.mdhtr.rdf.rdf4jbeans.BeanMapperConcurrencyTest;
+import com.github.mdhtr.rdf.rdf4jbeans.Rdf4jBeansTest;
+
+/**
+ * Throughput of one mapper of each stack shared by all threads, as in production. The {@code main}
+ * method runs it with 1, 2, 4, ... threads up to twice the available processors and prints the
+ * speedup over one thread; a stack that stops scaling before the processors run out contends somewhere.
+ * The {@code sharedMapperContention} stress tests of the {@code benchmark} profile report the blocked and
+ * waiting threads with {@link ConcurrentStress}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SharedMapperScalingBenchmark {
+	private ObjectMapper jsonldModuleMapper;
+	private ObjectMapper hydraMapper;
+	private BeanMapper beanMapper;
+
+	@Setup
+	public void setup() {
+		jsonldModuleMapper = JsonldModuleConcurrencyTest.newObjectMapper();
+		hydraMapper = HydraConcurrencyTest.newObjectMapper();
+		beanMapper = new BeanMapper();
+	}
+
+	@State(Scope.Thread)
+	public static class ThreadState {
+		private static final AtomicInteger THREADS = new AtomicInteger();
+
+		int index;
+		JsonldModuleConcurrencyTest.Person jsonldModulePerson;
+		HydraConcurrencyTest.Person hydraPerson;
+
+		@Setup
+		public void setup() {
+			index = THREADS.getAndIncrement();
+			jsonldModulePerson = new JsonldModuleConcurrencyTest.Person(index);
+			hydraPerson = new HydraConcurrencyTest.Person(index);
+		}
+	}
+
+	@Benchmark
+	public String jsonldModuleWrite(ThreadState state) throws JsonProcessingException {
+		return jsonldModuleMapper.writeValueAsString(state.jsonldModulePerson);
+	}
+
+	@Benchmark
+	public String hydraWrite(ThreadState state) throws JsonProcessingException {
+		return hydraMapper.writeValueAsString(state.hydraPerson);
+	}
+
+	@Benchmark
+	public String beanMapperWrite(ThreadState state) throws IOException {
+		return BeanMapperConcurrencyTest.write(beanMapper, state.index);
+	}
+
+	@Benchmark
+	public Rdf4jBeansTest.Person beanMapperRead(ThreadState state) {
+		return BeanMapperConcurrencyTest.read(beanMapper, state.index);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		int processors = Runtime.getRuntime().availableProcessors();
+		List<Integer> threadCounts = new ArrayList<>();
+		for (int threads = 1; threads <= processors * 2; threads *= 2) {
+			threadCounts.add(threads);
+		}
+		Map<String, Map<Integer, Double>> scores = new LinkedHashMap<>();
+		for (int threads : threadCounts) {
+			Collection<RunResult> results = new Runner(new OptionsBuilder()
+					.include(SharedMapperScalingBenchmark.class.getSimpleName())
+					.threads(threads)
+					.build())
+					.run();
+			for (RunResult result : results) {
+				String benchmark = result.getParams().getBenchmark();
+				scores.computeIfAbsent(benchmark.substring(benchmark.lastIndexOf('.') + 1), key -> new LinkedHashMap<>())
+						.put(threads, result.getPrimaryResult().getScore());
+			}
+		}
+		System.out.printf("%n%-20s %8s %12s %8s%n", "Benchmark", "Threads", "ops/ms", "Speedup");
+		scores.forEach((benchmark, byThreads) -> byThreads.forEach((threads, score) ->
+				System.out.printf("%-20s %8d %12.1f %8.2f%n", benchmark, threads, score, score / byThreads.get(1))));
+	}
+}
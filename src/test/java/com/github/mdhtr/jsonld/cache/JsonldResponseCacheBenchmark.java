@@ -0,0 +1,122 @@
+package com.github.mdhtr.jsonld.cache;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Gender;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Person;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Thing;
+
+import ioinformarics.oss.jackson.module.jsonld.JsonldModule;
+
+/**
+ * Serves a pool of persons, each requested once per round, with and without the
+ * {@link JsonldResponseCache}. The hit rate and the off-heap footprint of the cache
+ * are printed after each iteration; with {@code cacheBytes} smaller than the serialized
+ * pool, the cache keeps evicting and the hit rate drops.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonldResponseCacheBenchmark {
+	private static final int ENTITIES = 1000;
+
+	@Param({"plain", "jsonldModule"})
+	public String stack;
+
+	@Param({"1048576", "65536"})
+	public long cacheBytes;
+
+	private Person[] persons;
+	private ObjectWriter writer;
+	private JsonldResponseCache cache;
+	private int next;
+
+	@Setup
+	public void setup() throws MalformedURLException {
+		ObjectMapper objectMapper = new ObjectMapper();
+		if ("jsonldModule".equals(stack)) {
+			objectMapper.registerModule(new JsonldModule());
+		}
+		writer = objectMapper.writer();
+		persons = new Person[ENTITIES];
+		for (int i = 0; i < ENTITIES; i++) {
+			Person person = new Person();
+			person.setId(new URL("http://example.com/people/" + i));
+			person.setName("Example Name " + i);
+			person.setGender(i % 2 == 0 ? Gender.FEMALE : Gender.MALE);
+			person.setKnows(new URL("http://example.com/people/" + (i + 1) % ENTITIES));
+			Thing thing = new Thing();
+			thing.setId(new URL("http://example.com/things/" + i));
+			thing.setName("Thing Name " + i);
+			thing.setDescription("Thing Description " + i);
+			person.setKnowsAbout(thing);
+			persons[i] = person;
+		}
+	}
+
+	@Setup(Level.Iteration)
+	public void createCache() {
+		cache = new JsonldResponseCache(writer, cacheBytes);
+	}
+
+	@TearDown(Level.Iteration)
+	public void printStats() {
+		JsonldResponseCache.Stats stats = cache.stats();
+		if (stats.getHits() + stats.getMisses() > 0) {
+			System.out.printf("%n(hit rate: %.3f, entries: %d, off-heap bytes: %d)%n",
+					stats.hitRate(), stats.getEntries(), stats.getBytes());
+		}
+	}
+
+	@Benchmark
+	public byte[] uncached() throws JsonProcessingException {
+		return writer.writeValueAsBytes(nextPerson());
+	}
+
+	@Benchmark
+	public ByteBuffer cached() throws JsonProcessingException {
+		Person person = nextPerson();
+		return cache.get(person.getId().toString(), "1", person);
+	}
+
+	private Person nextPerson() {
+		Person person = persons[next];
+		next = (next + 1) % ENTITIES;
+		return person;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(JsonldResponseCacheBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build())
+				.run();
+	}
+}
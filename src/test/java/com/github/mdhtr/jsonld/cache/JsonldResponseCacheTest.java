@@ -0,0 +1,178 @@
+package com.github.mdhtr.jsonld.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Person;
+
+class JsonldResponseCacheTest {
+	private ObjectWriter writer;
+
+	@BeforeEach
+	void setup() {
+		writer = new ObjectMapper().writer();
+	}
+
+	@Test
+	void unchangedEntityIsServedFromTheCache() throws IOException {
+		JsonldResponseCache cache = new JsonldResponseCache(writer, 1024 * 1024);
+		Person person = person("http://example.com/people/123", "Example Name");
+
+		String first = asString(cache.get("http://example.com/people/123", "1", person));
+		person.setName("Changed Without A New Version");
+		String second = asString(cache.get("http://example.com/people/123", "1", person));
+
+		assertEquals(writer.writeValueAsString(person("http://example.com/people/123", "Example Name")), first);
+		assertEquals(first, second);
+		assertEquals(1, cache.stats().getHits());
+		assertEquals(1, cache.stats().getMisses());
+		assertEquals(0.5, cache.stats().hitRate());
+		assertEquals(first.getBytes(StandardCharsets.UTF_8).length, cache.stats().getBytes());
+	}
+
+	@Test
+	void newVersionReplacesTheCachedEntity() throws IOException {
+		JsonldResponseCache cache = new JsonldResponseCache(writer, 1024 * 1024);
+		Person person = person("http://example.com/people/123", "Example Name");
+		cache.get("http://example.com/people/123", "1", person);
+
+		person.setName("New Name");
+		String result = asString(cache.get("http://example.com/people/123", "2", person));
+
+		assertEquals(writer.writeValueAsString(person), result);
+		assertEquals(1, cache.stats().getEntries());
+		assertEquals(2, cache.stats().getMisses());
+	}
+
+	@Test
+	void newVersionTooLargeToCacheDropsTheCachedEntity() throws IOException {
+		Person person = person("http://example.com/people/123", "Example Name");
+		JsonldResponseCache cache = new JsonldResponseCache(writer, writer.writeValueAsBytes(person).length);
+		cache.get("http://example.com/people/123", "1", person);
+
+		person.setName("A Name Too Long To Fit In The Cache");
+		cache.get("http://example.com/people/123", "2", person);
+
+		assertEquals(0, cache.stats().getEntries());
+		assertEquals(0, cache.stats().getBytes());
+	}
+
+	@Test
+	void olderVersionFinishingLastDoesNotReplaceTheNewerOne() throws IOException {
+		JsonldResponseCache cache = new JsonldResponseCache(writer, 1024 * 1024);
+		Person newer = person("http://example.com/people/123", "New Name");
+		// the newer version is cached while the older one is still being serialized
+		Overtaken older = new Overtaken("Old Name", () -> cache.get("http://example.com/people/123", "2", newer));
+
+		cache.get("http://example.com/people/123", "1", older);
+		String result = asString(cache.get("http://example.com/people/123", "2", newer));
+
+		assertEquals(writer.writeValueAsString(newer), result);
+		assertEquals(1, cache.stats().getHits());
+		assertEquals(2, cache.stats().getMisses());
+	}
+
+	@Test
+	void entityInvalidatedWhileSerializingIsNotCached() throws IOException {
+		JsonldResponseCache cache = new JsonldResponseCache(writer, 1024 * 1024);
+		Overtaken stale = new Overtaken("Old Name", () -> cache.invalidate("http://example.com/people/123"));
+		Person changed = person("http://example.com/people/123", "New Name");
+
+		cache.get("http://example.com/people/123", "1", stale);
+		String result = asString(cache.get("http://example.com/people/123", "1", changed));
+
+		assertEquals(writer.writeValueAsString(changed), result);
+		assertEquals(0, cache.stats().getHits());
+	}
+
+	@Test
+	void invalidatedEntityIsSerializedAgain() throws IOException {
+		JsonldResponseCache cache = new JsonldResponseCache(writer, 1024 * 1024);
+		Person person = person("http://example.com/people/123", "Example Name");
+		cache.get("http://example.com/people/123", "1", person);
+
+		cache.invalidate("http://example.com/people/123");
+		person.setName("New Name");
+		String result = asString(cache.get("http://example.com/people/123", "1", person));
+
+		assertEquals(writer.writeValueAsString(person), result);
+		assertEquals(0, cache.stats().getHits());
+	}
+
+	@Test
+	void leastRecentlyUsedEntityIsEvicted() throws IOException {
+		Person first = person("http://example.com/people/1", "Name 1");
+		Person second = person("http://example.com/people/2", "Name 2");
+		Person third = person("http://example.com/people/3", "Name 3");
+		int size = writer.writeValueAsBytes(first).length;
+		JsonldResponseCache cache = new JsonldResponseCache(writer, 2L * size);
+
+		cache.get("http://example.com/people/1", "1", first);
+		cache.get("http://example.com/people/2", "1", second);
+		cache.get("http://example.com/people/1", "1", first);
+		cache.get("http://example.com/people/3", "1", third);
+		cache.get("http://example.com/people/1", "1", first);
+		cache.get("http://example.com/people/2", "1", second);
+
+		assertEquals(2, cache.stats().getHits());
+		assertEquals(4, cache.stats().getMisses());
+		assertEquals(2, cache.stats().getEvictions());
+		assertEquals(2, cache.stats().getEntries());
+	}
+
+	@Test
+	void writeToCopiesTheCachedBytes() throws IOException {
+		JsonldResponseCache cache = new JsonldResponseCache(writer, 1024 * 1024);
+		Person person = person("http://example.com/people/123", "Example Name");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		cache.writeTo(out, "http://example.com/people/123", "1", person);
+		cache.writeTo(out, "http://example.com/people/123", "1", person);
+
+		String serialized = writer.writeValueAsString(person);
+		assertEquals(serialized + serialized, out.toString(StandardCharsets.UTF_8));
+	}
+
+	private interface Request {
+		void run() throws IOException;
+	}
+
+	private static class Overtaken {
+		private final String name;
+		private final Request during;
+
+		private Overtaken(String name, Request during) {
+			this.name = name;
+			this.during = during;
+		}
+
+		public String getName() throws IOException {
+			during.run();
+			return name;
+		}
+	}
+
+	private static Person person(String id, String name) throws MalformedURLException {
+		Person person = new Person();
+		person.setId(new URL(id));
+		person.setName(name);
+		return person;
+	}
+
+	private static String asString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.remaining()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+}
@@ -0,0 +1,80 @@
+package com.github.mdhtr.jsonld.hydrajsonld;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mdhtr.concurrency.ConcurrentStress;
+
+import de.escalon.hypermedia.hydra.mapping.Expose;
+
+public class HydraConcurrencyTest {
+	private static final int THREADS = 64;
+	private static final int ITERATIONS = 500;
+	private static final int PERSONS = 100;
+
+	public enum Gender {
+		FEMALE, MALE
+	}
+
+	@Expose("http://schema.org/Person")
+	public static class Person {
+		public String id;
+		@Expose("http://schema.org/name")
+		public String name;
+		@Expose("http://schema.org/gender")
+		public Gender gender;
+
+		public Person(int index) {
+			id = "http://example.com/person/" + index;
+			name = "Example Name " + index;
+			gender = index % 2 == 0 ? Gender.FEMALE : Gender.MALE;
+		}
+	}
+
+	@Test
+	@DisplayName(value = "when one fresh mapper with the hydra serializer is shared by many threads, " +
+			"every thread gets the output of its own person")
+	void sharedMapper() throws InterruptedException, JsonProcessingException {
+		ConcurrentStress.Report report = stress();
+
+		assertTrue(report.isCorrect(), report.toString());
+	}
+
+	@Test
+	@Tag("benchmark")
+	@DisplayName(value = "when one fresh mapper with the hydra serializer is shared by many threads, " +
+			"the threads are rarely blocked on each other")
+	void sharedMapperContention(TestReporter reporter) throws InterruptedException, JsonProcessingException {
+		ConcurrentStress.Report report = stress();
+
+		reporter.publishEntry("sharedMapper", report.summary());
+		assertTrue(report.isCorrect(), report.toString());
+		assertTrue(report.contentionPerOperation() < ConcurrentStress.MAX_CONTENTION_PER_OPERATION, report.summary());
+	}
+
+	private static ConcurrentStress.Report stress() throws InterruptedException, JsonProcessingException {
+		ObjectMapper reference = newObjectMapper();
+		String[] expected = new String[PERSONS];
+		for (int i = 0; i < PERSONS; i++) {
+			expected[i] = reference.writeValueAsString(new Person(i));
+		}
+		ObjectMapper shared = newObjectMapper();
+
+		return ConcurrentStress.run(THREADS, ITERATIONS, expected,
+				input -> shared.writeValueAsString(new Person(input)));
+	}
+
+	public static ObjectMapper newObjectMapper() {
+		ObjectMapper objectMapper = new ObjectMapper();
+		objectMapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+		objectMapper.registerModule(HydraJsonldSerializationTest.getJacksonHydraSerializerModule());
+		return objectMapper;
+	}
+}
@@ -190,7 +190,7 @@ class HydraJsonldSerializationTest {
 				"}", objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(person));
 	}
 	
-	private static SimpleModule getJacksonHydraSerializerModule() {
+	static SimpleModule getJacksonHydraSerializerModule() {
 		return new SimpleModule() {
 			
 			@Override
@@ -16,6 +16,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mdhtr.jsonld.schema.JsonldSchema;
 
 public class JacksonSerializationTest {
 	private static final String NEWLINE = System.getProperty("line.separator");
@@ -29,6 +30,7 @@ public class JacksonSerializationTest {
 	
 	@Data
 	@NoArgsConstructor
+	@JsonldSchema
 	@JsonPropertyOrder({"id", "type"})
 	public static class Thing {
 		@JsonProperty("@id")
@@ -41,6 +43,7 @@ public class JacksonSerializationTest {
 	
 	@Data
 	@NoArgsConstructor
+	@JsonldSchema
 	@JsonPropertyOrder({"context", "id", "type"})
 	public static class Person {
 		@JsonProperty("@context")
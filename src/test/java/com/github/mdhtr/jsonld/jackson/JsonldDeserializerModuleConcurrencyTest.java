@@ -0,0 +1,68 @@
+package com.github.mdhtr.jsonld.jackson;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mdhtr.concurrency.ConcurrentStress;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Person;
+
+class JsonldDeserializerModuleConcurrencyTest {
+	private static final int THREADS = 64;
+	private static final int ITERATIONS = 500;
+	private static final int DOCUMENTS = 100;
+
+	@Test
+	@DisplayName(value = "when one fresh mapper with the JsonldDeserializerModule is shared by many threads, " +
+			"documents with different contexts are read into the right persons")
+	void sharedMapper() throws InterruptedException, IOException {
+		ConcurrentStress.Report report = stress();
+
+		assertTrue(report.isCorrect(), report.toString());
+	}
+
+	@Test
+	@Tag("benchmark")
+	@DisplayName(value = "when one fresh mapper with the JsonldDeserializerModule is shared by many threads, " +
+			"the threads are rarely blocked on each other")
+	void sharedMapperContention(TestReporter reporter) throws InterruptedException, IOException {
+		ConcurrentStress.Report report = stress();
+
+		reporter.publishEntry("sharedMapper", report.summary());
+		assertTrue(report.isCorrect(), report.toString());
+		assertTrue(report.contentionPerOperation() < ConcurrentStress.MAX_CONTENTION_PER_OPERATION, report.summary());
+	}
+
+	private static ConcurrentStress.Report stress() throws InterruptedException, IOException {
+		ObjectMapper reference = new ObjectMapper().registerModule(new JsonldDeserializerModule());
+		String[] expected = new String[DOCUMENTS];
+		for (int i = 0; i < DOCUMENTS; i++) {
+			expected[i] = reference.readValue(document(i), Person.class).toString();
+		}
+		ObjectMapper shared = new ObjectMapper().registerModule(new JsonldDeserializerModule());
+
+		return ConcurrentStress.run(THREADS, ITERATIONS, expected,
+				input -> shared.readValue(document(input), Person.class).toString());
+	}
+
+	/**
+	 * @return a person document, with a different prefix and alias for the name in each
+	 */
+	private static String document(int index) {
+		String prefix = "s" + index;
+		return "{\"@context\": {" +
+				"\"" + prefix + "\": \"http://schema.org/\", " +
+				"\"name" + index + "\": \"" + prefix + ":name\"}, " +
+				"\"@id\": \"http://example.com/people/" + index + "\", " +
+				"\"name" + index + "\": \"Example Name " + index + "\", " +
+				"\"" + prefix + ":gender\": \"" + prefix + ":" + (index % 2 == 0 ? "Female" : "Male") + "\", " +
+				"\"" + prefix + ":knowsAbout\": {\"@id\": \"http://example.com/things/" + index + "\", " +
+				"\"" + prefix + ":name\": \"Thing " + index + "\"}}";
+	}
+}
@@ -0,0 +1,209 @@
+package com.github.mdhtr.jsonld.jackson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Gender;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Person;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Thing;
+
+import de.escalon.hypermedia.hydra.mapping.Expose;
+import de.escalon.hypermedia.hydra.mapping.Term;
+import ioinformarics.oss.jackson.module.jsonld.JsonldModule;
+import ioinformarics.oss.jackson.module.jsonld.annotation.JsonldId;
+import ioinformarics.oss.jackson.module.jsonld.annotation.JsonldNamespace;
+import ioinformarics.oss.jackson.module.jsonld.annotation.JsonldProperty;
+import ioinformarics.oss.jackson.module.jsonld.annotation.JsonldType;
+
+class JsonldDeserializerModuleTest {
+	private ObjectMapper objectMapper;
+
+	@BeforeEach
+	void setup() {
+		objectMapper = new ObjectMapper().registerModule(new JsonldDeserializerModule());
+	}
+
+	@Test
+	@DisplayName(value = "what the plain jackson serializer writes is read back unchanged")
+	void roundTrip() throws IOException {
+		Person person = new Person();
+		person.setId(new URL("http://example.com/people/123"));
+		person.setName("Example Name");
+		person.setGender(Gender.FEMALE);
+		person.setKnows(new URL("http://example.com/people/456"));
+		Thing thing = new Thing();
+		thing.setId(new URL("http://example.com/things/123"));
+		thing.setName("Thing Name");
+		thing.setDescription("Thing Description");
+		person.setKnowsAbout(thing);
+
+		String json = new ObjectMapper().writeValueAsString(person);
+
+		assertEquals(person, objectMapper.readValue(json, Person.class));
+	}
+
+	@Test
+	@DisplayName(value = "when the document uses its own @context, " +
+			"full IRIs, compact IRIs, node references and value objects are mapped to the same properties")
+	void differentCompaction() throws IOException {
+		String input = "{\n" +
+				"  \"@context\": {\n" +
+				"    \"schema\": \"http://schema.org/\",\n" +
+				"    \"fullName\": \"schema:name\"\n" +
+				"  },\n" +
+				"  \"@id\": \"http://example.com/people/123\",\n" +
+				"  \"@type\": \"schema:Person\",\n" +
+				"  \"fullName\": {\"@value\": \"Example Name\", \"@language\": \"en\"},\n" +
+				"  \"schema:gender\": {\"@id\": \"http://schema.org/Female\"},\n" +
+				"  \"http://schema.org/knows\": {\"@id\": \"http://example.com/people/456\"},\n" +
+				"  \"schema:knowsAbout\": {\n" +
+				"    \"@id\": \"http://example.com/things/123\",\n" +
+				"    \"schema:name\": \"Thing Name\"\n" +
+				"  }\n" +
+				"}";
+
+		Person person = objectMapper.readValue(input, Person.class);
+
+		assertEquals(new URL("http://example.com/people/123"), person.getId());
+		assertEquals("Example Name", person.getName());
+		assertEquals(Gender.FEMALE, person.getGender());
+		assertEquals(new URL("http://example.com/people/456"), person.getKnows());
+		assertEquals(new URL("http://example.com/things/123"), person.getKnowsAbout().getId());
+		assertEquals("Thing Name", person.getKnowsAbout().getName());
+	}
+
+	@Test
+	@DisplayName(value = "the input of the rdf4j-beans deserialization test is read without an RDF model")
+	void rdf4jBeansInput() throws IOException {
+		String input = "{\n" +
+				"  \"@context\": {\n" +
+				"    \"@vocab\": \"http://schema.org/\",\n" +
+				"    \"knows\": {\n" +
+				"      \"@type\": \"@id\"\n" +
+				"    }\n" +
+				"  },\n" +
+				"  \"@type\": \"Person\",\n" +
+				"  \"@id\": \"http://example.com/person/1234\",\n" +
+				"  \"name\": \"Example Name\",\n" +
+				"  \"knows\": \"http://example.com/person/2345\"\n" +
+				"}";
+
+		Person person = objectMapper.readValue(input, Person.class);
+
+		Person expectedPerson = new Person();
+		expectedPerson.setId(new URL("http://example.com/person/1234"));
+		expectedPerson.setName("Example Name");
+		expectedPerson.setKnows(new URL("http://example.com/person/2345"));
+		assertEquals(expectedPerson, person);
+	}
+
+	@Test
+	@DisplayName(value = "when a node is given by its IRI only, the bean gets only the @id")
+	void nodeReference() throws IOException, MalformedURLException {
+		String input = "{\"@context\": {\"@vocab\": \"http://schema.org/\"}, " +
+				"\"knowsAbout\": \"http://example.com/things/123\"}";
+
+		Person person = objectMapper.readValue(input, Person.class);
+
+		Thing expectedThing = new Thing();
+		expectedThing.setId(new URL("http://example.com/things/123"));
+		assertEquals(expectedThing, person.getKnowsAbout());
+	}
+
+	@Test
+	@DisplayName(value = "the @context must come first, the keys before it could not be resolved")
+	void contextMustComeFirst() {
+		String input = "{\"schema:name\": \"Example Name\", \"@context\": {\"schema\": \"http://schema.org/\"}}";
+
+		assertThrows(MismatchedInputException.class, () -> objectMapper.readValue(input, Person.class));
+	}
+
+	@Test
+	@DisplayName(value = "beans annotated for the jackson-jsonld module are read with the context it writes, " +
+			"also when the document compacts the keys differently")
+	void jsonldModuleAnnotations() throws IOException {
+		AnnotatedPerson person = new AnnotatedPerson();
+		person.id = "http://example.com/people/123";
+		person.name = "Example Name";
+		person.title = "Manager";
+		String written = new ObjectMapper().registerModule(new JsonldModule()).writeValueAsString(person);
+		String compacted = "{\"@context\": {\"schema\": \"http://schema.org/\"}, " +
+				"\"@type\": \"schema:Person\", " +
+				"\"@id\": \"http://example.com/people/123\", " +
+				"\"schema:name\": \"Example Name\", " +
+				"\"http://schema.org/jobTitle\": \"Manager\"}";
+
+		for (String input : new String[] {written, compacted}) {
+			AnnotatedPerson read = objectMapper.readValue(input, AnnotatedPerson.class);
+
+			assertEquals(person.id, read.id);
+			assertEquals(person.name, read.name);
+			assertEquals(person.title, read.title);
+		}
+	}
+
+	@Test
+	@DisplayName(value = "beans annotated for hydra-jsonld are read with the context it writes")
+	void hydraAnnotations() throws IOException {
+		String input = "{\"@context\": {\"e\": \"http://example.com/vocab/\"}, " +
+				"\"@type\": \"e:person\", " +
+				"\"id\": \"http://example.com/people/123\", " +
+				"\"e:name\": \"Example Name\", " +
+				"\"http://schema.org/jobTitle\": \"Manager\"}";
+
+		ExposedPerson person = objectMapper.readValue(input, ExposedPerson.class);
+
+		assertEquals("http://example.com/people/123", person.id);
+		assertEquals("Example Name", person.name);
+		assertEquals("Manager", person.jobTitle);
+	}
+
+	@Test
+	@DisplayName(value = "the expanded terms of the documents are not remembered without a limit")
+	void unknownKeysAreNotCached() throws IOException {
+		ObjectMapper lenient = objectMapper.copy().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+		String context = new ObjectMapper().writeValueAsString(new Person().getContext());
+
+		for (int i = 0; i < 2 * JsonldContext.MAX_CACHED_TERMS; i++) {
+			lenient.readValue("{\"unknown" + i + "\": 1}", Person.class);
+			lenient.readValue("{\"@context\": " + context + ", \"unknown" + i + "\": 1}", Person.class);
+		}
+
+		assertEquals(0, JsonldContext.EMPTY.cachedTermCount());
+		JsonldContext classContext = JsonldContext.EMPTY.merge(new Person().getContext()).cached();
+		for (int i = 0; i < 2 * JsonldContext.MAX_CACHED_TERMS; i++) {
+			classContext.expand("unknown" + i);
+		}
+		assertEquals(JsonldContext.MAX_CACHED_TERMS, classContext.cachedTermCount());
+	}
+
+	@JsonldNamespace(name = "s", uri = "http://schema.org/")
+	@JsonldType("s:Person")
+	static class AnnotatedPerson {
+		@JsonldId
+		public String id;
+		public String name;
+		@JsonldProperty("http://schema.org/jobTitle")
+		public String title;
+	}
+
+	@Term(define = "e", as = "http://example.com/vocab/")
+	@Expose("e:person")
+	static class ExposedPerson {
+		public String id;
+		@Expose("e:name")
+		public String name;
+		public String jobTitle;
+	}
+}
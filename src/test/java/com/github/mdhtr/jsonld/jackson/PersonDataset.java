@@ -0,0 +1,139 @@
+package com.github.mdhtr.jsonld.jackson;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import lombok.Value;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Gender;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Person;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Thing;
+
+/**
+ * A synthetic dataset of the {@link JacksonSerializationTest} persons, the same for the same {@link Shape}
+ * on every JVM. The persons form a tree: each person is known by {@code fanOut} others, down to
+ * {@code depth} levels below the root, and knows about a thing of its own. Since {@code knows} holds a
+ * single link, the fan-out is the number of persons linking to the same person. The texts mix ASCII
+ * words with accented letters and quotes, to exercise escaping.
+ */
+public final class PersonDataset {
+	private static final String PEOPLE = "http://example.com/people/";
+	private static final String THINGS = "http://example.com/things/";
+	private static final String[] SPECIAL_WORDS = {"Zo\u00eb", "\u00c5ngstr\u00f6m", "na\u00efve", "\"quoted\"", "back\\slash", "\u65e5\u672c"};
+
+	private final List<Person> persons;
+	private final List<String> documents;
+
+	private PersonDataset(List<Person> persons, List<String> documents) {
+		this.persons = Collections.unmodifiableList(persons);
+		this.documents = Collections.unmodifiableList(documents);
+	}
+
+	@Value
+	public static class Shape {
+		public static final Shape DEFAULT = new Shape(42, 3, 4, 16, 64);
+
+		long seed;
+		/**
+		 * levels of persons below the root
+		 */
+		int depth;
+		/**
+		 * persons knowing each person above the last level
+		 */
+		int fanOut;
+		int nameLength;
+		int descriptionLength;
+	}
+
+	public static PersonDataset generate(Shape shape) {
+		SplittableRandom random = new SplittableRandom(shape.getSeed());
+		List<Person> persons = new ArrayList<>();
+		persons.add(person(random, shape, 0, null));
+		int levelStart = 0;
+		for (int level = 0; level < shape.getDepth(); level++) {
+			int levelEnd = persons.size();
+			for (int known = levelStart; known < levelEnd; known++) {
+				for (int i = 0; i < shape.getFanOut(); i++) {
+					persons.add(person(random, shape, persons.size(), persons.get(known).getId()));
+				}
+			}
+			levelStart = levelEnd;
+		}
+
+		ObjectMapper objectMapper = new ObjectMapper();
+		List<String> documents = new ArrayList<>();
+		for (Person person : persons) {
+			try {
+				documents.add(objectMapper.writeValueAsString(person));
+			}
+			catch (JsonProcessingException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+		return new PersonDataset(persons, documents);
+	}
+
+	public List<Person> persons() {
+		return persons;
+	}
+
+	/**
+	 * @return the compacted JSON-LD document of each person, as the plain {@code ObjectMapper} writes it
+	 */
+	public List<String> documents() {
+		return documents;
+	}
+
+	private static Person person(SplittableRandom random, Shape shape, int index, URL knows) {
+		Thing thing = new Thing();
+		thing.setId(url(THINGS + index));
+		thing.setName(text(random, shape.getNameLength()));
+		thing.setDescription(text(random, shape.getDescriptionLength()));
+
+		Person person = new Person();
+		person.setId(url(PEOPLE + index));
+		person.setName(text(random, shape.getNameLength()));
+		person.setGender(random.nextBoolean() ? Gender.FEMALE : Gender.MALE);
+		person.setKnows(knows);
+		person.setKnowsAbout(thing);
+		return person;
+	}
+
+	/**
+	 * @return words of random letters, cut to the length
+	 */
+	private static String text(SplittableRandom random, int length) {
+		StringBuilder text = new StringBuilder(length + 16);
+		while (text.length() < length) {
+			if (text.length() > 0) {
+				text.append(' ');
+			}
+			if (random.nextInt(16) == 0) {
+				text.append(SPECIAL_WORDS[random.nextInt(SPECIAL_WORDS.length)]);
+				continue;
+			}
+			int wordLength = 2 + random.nextInt(9);
+			for (int i = 0; i < wordLength; i++) {
+				char letter = (char) ('a' + random.nextInt(26));
+				text.append(text.length() == 0 ? Character.toUpperCase(letter) : letter);
+			}
+		}
+		return text.substring(0, length);
+	}
+
+	private static URL url(String url) {
+		try {
+			return new URL(url);
+		}
+		catch (MalformedURLException e) {
+			throw new IllegalArgumentException(url, e);
+		}
+	}
+}
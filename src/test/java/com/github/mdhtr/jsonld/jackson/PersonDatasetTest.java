@@ -0,0 +1,57 @@
+package com.github.mdhtr.jsonld.jackson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Person;
+
+class PersonDatasetTest {
+	@Test
+	@DisplayName(value = "the same shape gives the same documents, another seed gives other ones")
+	void deterministic() {
+		PersonDataset.Shape shape = PersonDataset.Shape.DEFAULT;
+		PersonDataset.Shape otherSeed = new PersonDataset.Shape(7, shape.getDepth(), shape.getFanOut(),
+				shape.getNameLength(), shape.getDescriptionLength());
+
+		assertEquals(PersonDataset.generate(shape).documents(), PersonDataset.generate(shape).documents());
+		assertNotEquals(PersonDataset.generate(shape).documents(), PersonDataset.generate(otherSeed).documents());
+	}
+
+	@Test
+	@DisplayName(value = "each person above the last level is known by fan-out persons, " +
+			"and the texts have the given lengths")
+	void shape() {
+		PersonDataset.Shape shape = new PersonDataset.Shape(1, 2, 3, 10, 200);
+
+		List<Person> persons = PersonDataset.generate(shape).persons();
+
+		assertEquals(1 + 3 + 9, persons.size());
+		assertNull(persons.get(0).getKnows());
+		for (int i = 1; i < persons.size(); i++) {
+			assertEquals(persons.get((i - 1) / 3).getId(), persons.get(i).getKnows());
+		}
+		for (Person person : persons) {
+			assertEquals(10, person.getName().length());
+			assertEquals(200, person.getKnowsAbout().getDescription().length());
+		}
+	}
+
+	@Test
+	@DisplayName(value = "the documents are read back into the persons")
+	void documentsMatchPersons() throws IOException {
+		PersonDataset dataset = PersonDataset.generate(PersonDataset.Shape.DEFAULT);
+		ObjectMapper objectMapper = new ObjectMapper().registerModule(new JsonldDeserializerModule());
+
+		for (int i = 0; i < dataset.persons().size(); i++) {
+			assertEquals(dataset.persons().get(i), objectMapper.readValue(dataset.documents().get(i), Person.class));
+		}
+	}
+}
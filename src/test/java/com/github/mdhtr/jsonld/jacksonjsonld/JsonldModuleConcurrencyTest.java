@@ -0,0 +1,81 @@
+package com.github.mdhtr.jsonld.jacksonjsonld;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mdhtr.concurrency.ConcurrentStress;
+
+import ioinformarics.oss.jackson.module.jsonld.JsonldModule;
+import ioinformarics.oss.jackson.module.jsonld.annotation.JsonldId;
+import ioinformarics.oss.jackson.module.jsonld.annotation.JsonldLink;
+import ioinformarics.oss.jackson.module.jsonld.annotation.JsonldNamespace;
+import ioinformarics.oss.jackson.module.jsonld.annotation.JsonldProperty;
+import ioinformarics.oss.jackson.module.jsonld.annotation.JsonldResource;
+import ioinformarics.oss.jackson.module.jsonld.annotation.JsonldType;
+
+public class JsonldModuleConcurrencyTest {
+	private static final int THREADS = 64;
+	private static final int ITERATIONS = 500;
+	private static final int PERSONS = 100;
+
+	@JsonldResource
+	@JsonldNamespace(name = "s", uri = "http://schema.org/")
+	@JsonldType("s:Person")
+	@JsonldLink(rel = "s:knows", name = "knows", href = "http://example.com/person/1")
+	public static class Person {
+		@JsonldId
+		public String id;
+		@JsonldProperty("s:name")
+		public String name;
+
+		public Person(int index) {
+			id = "http://example.com/person/" + index;
+			name = "Example Name " + index;
+		}
+	}
+
+	@Test
+	@DisplayName(value = "when one fresh mapper with the JsonldModule is shared by many threads, " +
+			"every thread gets the output of its own person")
+	void sharedMapper() throws InterruptedException, JsonProcessingException {
+		ConcurrentStress.Report report = stress();
+
+		assertTrue(report.isCorrect(), report.toString());
+	}
+
+	@Test
+	@Tag("benchmark")
+	@DisplayName(value = "when one fresh mapper with the JsonldModule is shared by many threads, " +
+			"the threads are rarely blocked on each other")
+	void sharedMapperContention(TestReporter reporter) throws InterruptedException, JsonProcessingException {
+		ConcurrentStress.Report report = stress();
+
+		reporter.publishEntry("sharedMapper", report.summary());
+		assertTrue(report.isCorrect(), report.toString());
+		assertTrue(report.contentionPerOperation() < ConcurrentStress.MAX_CONTENTION_PER_OPERATION, report.summary());
+	}
+
+	private static ConcurrentStress.Report stress() throws InterruptedException, JsonProcessingException {
+		ObjectMapper reference = newObjectMapper();
+		String[] expected = new String[PERSONS];
+		for (int i = 0; i < PERSONS; i++) {
+			expected[i] = reference.writeValueAsString(new Person(i));
+		}
+		ObjectMapper shared = newObjectMapper();
+
+		return ConcurrentStress.run(THREADS, ITERATIONS, expected,
+				input -> shared.writeValueAsString(new Person(input)));
+	}
+
+	public static ObjectMapper newObjectMapper() {
+		ObjectMapper objectMapper = new ObjectMapper();
+		objectMapper.registerModule(new JsonldModule());
+		return objectMapper;
+	}
+}
@@ -0,0 +1,126 @@
+package com.github.mdhtr.jsonld.projection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Gender;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Person;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Thing;
+
+import ioinformarics.oss.jackson.module.jsonld.JsonldModule;
+import ioinformarics.oss.jackson.module.jsonld.annotation.JsonldNamespace;
+import ioinformarics.oss.jackson.module.jsonld.annotation.JsonldTypeFromJavaClass;
+
+class JsonldProjectionWriterTest {
+	private static final String NEWLINE = System.getProperty("line.separator");
+
+	private Person person;
+
+	@BeforeEach
+	void setup() throws MalformedURLException {
+		person = new Person();
+		person.setId(new URL("http://example.com/people/123"));
+		person.setName("Example Name");
+		person.setGender(Gender.FEMALE);
+		person.setKnows(new URL("http://example.com/people/456"));
+		Thing thing = new Thing();
+		thing.setId(new URL("http://example.com/things/123"));
+		thing.setName("Thing Name");
+		thing.setDescription("Thing Description");
+		person.setKnowsAbout(thing);
+	}
+
+	@Test
+	@DisplayName(value = "when only @id, @type and name are selected, " +
+			"the other properties and their @context terms are left out")
+	void selectTopLevelProperties() throws JsonProcessingException {
+		JsonldProjectionWriter writer = new JsonldProjectionWriter(new ObjectMapper().writerWithDefaultPrettyPrinter());
+
+		assertEquals("{" + NEWLINE +
+				"  \"@context\" : {" + NEWLINE +
+				"    \"@vocab\" : \"http://schema.org/\"" + NEWLINE +
+				"  }," + NEWLINE +
+				"  \"@id\" : \"http://example.com/people/123\"," + NEWLINE +
+				"  \"@type\" : \"Person\"," + NEWLINE +
+				"  \"name\" : \"Example Name\"" + NEWLINE +
+				"}", writer.writeValueAsString(person, "@id,@type,name"));
+	}
+
+	@Test
+	@DisplayName(value = "when a nested selection is given, " +
+			"only the selected properties of the nested object are written")
+	void selectNestedProperties() throws JsonProcessingException {
+		JsonldProjectionWriter writer = new JsonldProjectionWriter(new ObjectMapper().writerWithDefaultPrettyPrinter());
+
+		assertEquals("{" + NEWLINE +
+				"  \"@context\" : {" + NEWLINE +
+				"    \"@vocab\" : \"http://schema.org/\"," + NEWLINE +
+				"    \"knows\" : {" + NEWLINE +
+				"      \"@type\" : \"@id\"" + NEWLINE +
+				"    }" + NEWLINE +
+				"  }," + NEWLINE +
+				"  \"@id\" : \"http://example.com/people/123\"," + NEWLINE +
+				"  \"knows\" : \"http://example.com/people/456\"," + NEWLINE +
+				"  \"knowsAbout\" : {" + NEWLINE +
+				"    \"@id\" : \"http://example.com/things/123\"," + NEWLINE +
+				"    \"name\" : \"Thing Name\"" + NEWLINE +
+				"  }" + NEWLINE +
+				"}", writer.writeValueAsString(person, "@id, knows, knowsAbout(@id, name)"));
+	}
+
+	@Test
+	@DisplayName(value = "when the @context is generated by the JsonldModule, " +
+			"namespace prefixes are kept so the selected terms can still be expanded")
+	void jsonldModuleContextIsPruned() throws JsonProcessingException {
+		@JsonldNamespace(name = "s", uri = "http://schema.org/")
+		@JsonldTypeFromJavaClass()
+		class Person {
+			public String id = "http://example.com/person/1234";
+			public String name = "Example Name";
+		}
+		ObjectMapper objectMapper = new ObjectMapper();
+		objectMapper.registerModule(new JsonldModule());
+		JsonldProjectionWriter writer = new JsonldProjectionWriter(objectMapper.writerWithDefaultPrettyPrinter());
+
+		assertEquals("{" + NEWLINE +
+				"  \"@type\" : \"Person\"," + NEWLINE +
+				"  \"@context\" : {" + NEWLINE +
+				"    \"s\" : \"http://schema.org/\"," + NEWLINE +
+				"    \"name\" : \"s:name\"" + NEWLINE +
+				"  }," + NEWLINE +
+				"  \"name\" : \"Example Name\"" + NEWLINE +
+				"}", writer.writeValueAsString(new Person(), "@type,name"));
+	}
+
+	@Test
+	void bytesAreTheSameAsTheString() throws JsonProcessingException {
+		JsonldProjectionWriter writer = new JsonldProjectionWriter(new ObjectMapper().writer());
+
+		assertEquals(writer.writeValueAsString(person, "@id,name"),
+				new String(writer.writeValueAsBytes(person, "@id,name")));
+	}
+
+	@Test
+	void projectionsAreCompiledOnce() {
+		JsonldProjectionWriter writer = new JsonldProjectionWriter(new ObjectMapper().writer());
+
+		assertSame(writer.projection("@id,name"), writer.projection("@id,name"));
+	}
+
+	@Test
+	void malformedProjectionIsRejected() {
+		assertThrows(IllegalArgumentException.class, () -> JsonldProjection.compile("@id,"));
+		assertThrows(IllegalArgumentException.class, () -> JsonldProjection.compile("knowsAbout(name"));
+		assertThrows(IllegalArgumentException.class, () -> JsonldProjection.compile("name)"));
+	}
+}
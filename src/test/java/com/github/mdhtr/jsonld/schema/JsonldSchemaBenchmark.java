@@ -0,0 +1,124 @@
+package com.github.mdhtr.jsonld.schema;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Gender;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Person;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Thing;
+
+/**
+ * Steady-state throughput of writing and reading a person with the reflective {@code ObjectMapper},
+ * with the {@link JsonldSchemaModule} in an {@code ObjectMapper}, and with the generated classes on
+ * a bare {@code JsonFactory}. See {@link JsonldSchemaStartupBenchmark} for the first call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonldSchemaBenchmark {
+	private Person person;
+	private byte[] json;
+	private ObjectWriter reflectiveWriter;
+	private ObjectReader reflectiveReader;
+	private ObjectWriter moduleWriter;
+	private ObjectReader moduleReader;
+	private JsonFactory jsonFactory;
+	private JsonldBeanWriter<Person> generatedWriter;
+	private JsonldBeanReader<Person> generatedReader;
+
+	@Setup
+	public void setup() throws MalformedURLException, IOException {
+		person = new Person();
+		person.setId(new URL("http://example.com/people/123"));
+		person.setName("Example Name");
+		person.setGender(Gender.FEMALE);
+		person.setKnows(new URL("http://example.com/people/456"));
+		Thing thing = new Thing();
+		thing.setId(new URL("http://example.com/things/123"));
+		thing.setName("Thing Name");
+		thing.setDescription("Thing Description");
+		person.setKnowsAbout(thing);
+
+		ObjectMapper reflective = new ObjectMapper();
+		reflectiveWriter = reflective.writerFor(Person.class);
+		reflectiveReader = reflective.readerFor(Person.class);
+		ObjectMapper module = new ObjectMapper().registerModule(new JsonldSchemaModule(Person.class, Thing.class));
+		moduleWriter = module.writerFor(Person.class);
+		moduleReader = module.readerFor(Person.class);
+		jsonFactory = new JsonFactory();
+		generatedWriter = JsonldSchemas.writerFor(Person.class);
+		generatedReader = JsonldSchemas.readerFor(Person.class);
+		json = reflectiveWriter.writeValueAsBytes(person);
+	}
+
+	@Benchmark
+	public byte[] writeReflective() throws IOException {
+		return reflectiveWriter.writeValueAsBytes(person);
+	}
+
+	@Benchmark
+	public byte[] writeModule() throws IOException {
+		return moduleWriter.writeValueAsBytes(person);
+	}
+
+	@Benchmark
+	public byte[] writeGenerated() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+		try (JsonGenerator generator = jsonFactory.createGenerator(bytes)) {
+			generatedWriter.write(person, generator);
+		}
+		return bytes.toByteArray();
+	}
+
+	@Benchmark
+	public Person readReflective() throws IOException {
+		return reflectiveReader.readValue(json);
+	}
+
+	@Benchmark
+	public Person readModule() throws IOException {
+		return moduleReader.readValue(json);
+	}
+
+	@Benchmark
+	public Person readGenerated() throws IOException {
+		try (JsonParser parser = jsonFactory.createParser(json)) {
+			return generatedReader.read(parser);
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(JsonldSchemaBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build())
+				.run();
+	}
+}
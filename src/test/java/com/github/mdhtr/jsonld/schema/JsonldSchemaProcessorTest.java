@@ -0,0 +1,149 @@
+package com.github.mdhtr.jsonld.schema;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.exc.UnrecognizedPropertyException;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Gender;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Person;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Thing;
+import com.github.mdhtr.jsonld.projection.JsonldProjectionWriter;
+
+class JsonldSchemaProcessorTest {
+	private final JsonFactory jsonFactory = new JsonFactory();
+
+	private Person person;
+
+	@BeforeEach
+	void setup() throws MalformedURLException {
+		person = new Person();
+		person.setId(new URL("http://example.com/people/123"));
+		person.setName("Example Name");
+		person.setGender(Gender.FEMALE);
+		person.setKnows(new URL("http://example.com/people/456"));
+		Thing thing = new Thing();
+		thing.setId(new URL("http://example.com/things/123"));
+		thing.setName("Thing Name");
+		thing.setDescription("Thing Description");
+		person.setKnowsAbout(thing);
+	}
+
+	@Test
+	@DisplayName(value = "the generated writer writes the same JSON-LD as the reflective ObjectMapper")
+	void writeLikeObjectMapper() throws IOException {
+		assertEquals(new ObjectMapper().writeValueAsString(person), write(person));
+	}
+
+	@Test
+	@DisplayName(value = "when properties are not set, the generated writer writes nulls like the ObjectMapper")
+	void writeNulls() throws IOException {
+		Person empty = new Person();
+
+		assertEquals(new ObjectMapper().writeValueAsString(empty), write(empty));
+	}
+
+	@Test
+	@DisplayName(value = "the generated reader reads back what the ObjectMapper writes")
+	void readObjectMapperOutput() throws IOException {
+		String json = new ObjectMapper().writeValueAsString(person);
+
+		try (JsonParser parser = jsonFactory.createParser(json)) {
+			assertEquals(person, JsonldSchemas.readerFor(Person.class).read(parser));
+		}
+	}
+
+	@Test
+	@DisplayName(value = "when an enum value is unknown, the generated reader reports it")
+	void unknownEnumValue() throws IOException {
+		try (JsonParser parser = jsonFactory.createParser("{\"gender\": \"Unknown\"}")) {
+			assertThrows(InvalidFormatException.class, () -> JsonldSchemas.readerFor(Person.class).read(parser));
+		}
+	}
+
+	@Test
+	@DisplayName(value = "when the module is registered, an ObjectMapper uses the generated classes in both directions")
+	void module() throws IOException {
+		ObjectMapper objectMapper = new ObjectMapper().registerModule(new JsonldSchemaModule(Person.class, Thing.class));
+
+		String json = objectMapper.writeValueAsString(person);
+
+		assertEquals(new ObjectMapper().writeValueAsString(person), json);
+		assertEquals(person, objectMapper.readValue(json, Person.class));
+		assertNull(objectMapper.readValue("null", Person.class));
+	}
+
+	@Test
+	@DisplayName(value = "when the module is registered, the constants are written as values, not as raw text: " +
+			"converted, projected and pretty printed output is the same as without the module")
+	void constantsAreStructured() throws IOException {
+		ObjectMapper plain = new ObjectMapper();
+		ObjectMapper objectMapper = new ObjectMapper().registerModule(new JsonldSchemaModule(Person.class, Thing.class));
+
+		assertEquals(plain.convertValue(person, Map.class), objectMapper.convertValue(person, Map.class));
+		assertEquals(new JsonldProjectionWriter(plain.writer()).writeValueAsString(person, "@id,name"),
+				new JsonldProjectionWriter(objectMapper.writer()).writeValueAsString(person, "@id,name"));
+		assertEquals(plain.writerWithDefaultPrettyPrinter().writeValueAsString(person),
+				objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(person));
+	}
+
+	@Test
+	@DisplayName(value = "when the module is registered on an ObjectMapper that leaves out nulls, " +
+			"the generated writer leaves them out too")
+	void moduleLeavesOutNulls() throws IOException {
+		ObjectMapper plain = new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
+		ObjectMapper objectMapper = plain.copy().registerModule(new JsonldSchemaModule(Person.class, Thing.class));
+		person.setName(null);
+		person.getKnowsAbout().setDescription(null);
+
+		assertEquals(plain.writeValueAsString(person), objectMapper.writeValueAsString(person));
+		assertEquals(plain.writeValueAsString(new Person()), objectMapper.writeValueAsString(new Person()));
+	}
+
+	@Test
+	@DisplayName(value = "unknown properties are reported like the ObjectMapper does, " +
+			"and skipped when the ObjectMapper is configured so")
+	void unknownProperties() throws IOException {
+		ObjectMapper objectMapper = new ObjectMapper().registerModule(new JsonldSchemaModule(Person.class, Thing.class));
+		String json = "{\"nmae\": \"Example Name\", \"knowsAbout\": {\"description\": \"x\", \"extra\": [1]}}";
+
+		assertThrows(UnrecognizedPropertyException.class, () -> objectMapper.readValue(json, Person.class));
+		try (JsonParser parser = jsonFactory.createParser(json)) {
+			assertThrows(UnrecognizedPropertyException.class, () -> JsonldSchemas.readerFor(Person.class).read(parser));
+		}
+		Person read = objectMapper.copy().disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+				.readValue(json, Person.class);
+		assertNull(read.getName());
+		assertEquals("x", read.getKnowsAbout().getDescription());
+	}
+
+	@Test
+	void typesWithoutSchemaAreRejected() {
+		assertThrows(IllegalArgumentException.class, () -> JsonldSchemas.writerFor(String.class));
+	}
+
+	private String write(Person value) throws IOException {
+		StringWriter json = new StringWriter();
+		try (JsonGenerator generator = jsonFactory.createGenerator(json)) {
+			JsonldSchemas.writerFor(Person.class).write(value, generator);
+		}
+		return json.toString();
+	}
+}
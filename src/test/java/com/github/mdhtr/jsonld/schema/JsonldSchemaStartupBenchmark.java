@@ -0,0 +1,67 @@
+package com.github.mdhtr.jsonld.schema;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Gender;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Person;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Thing;
+
+/**
+ * The first person written in a fresh JVM, by a plain {@code ObjectMapper} that introspects the bean and
+ * by one with the {@link JsonldSchemaModule} that loads the generated writer instead. Both pay for
+ * bootstrapping the {@code ObjectMapper}. Every measurement runs in its own fork, so class loading and
+ * interpretation are part of the time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class JsonldSchemaStartupBenchmark {
+	private Person person;
+
+	@Setup
+	public void setup() throws MalformedURLException {
+		person = new Person();
+		person.setId(new URL("http://example.com/people/123"));
+		person.setName("Example Name");
+		person.setGender(Gender.FEMALE);
+	}
+
+	@Benchmark
+	public byte[] firstWriteReflective() throws IOException {
+		return new ObjectMapper().writeValueAsBytes(person);
+	}
+
+	@Benchmark
+	public byte[] firstWriteGenerated() throws IOException {
+		return new ObjectMapper().registerModule(new JsonldSchemaModule(Person.class, Thing.class))
+				.writeValueAsBytes(person);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(JsonldSchemaStartupBenchmark.class.getSimpleName())
+				.build())
+				.run();
+	}
+}
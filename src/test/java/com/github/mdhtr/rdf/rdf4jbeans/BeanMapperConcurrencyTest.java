@@ -0,0 +1,106 @@
+package com.github.mdhtr.rdf.rdf4jbeans;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+
+import com.github.kburger.rdf4j.beans.BeanMapper;
+import com.github.mdhtr.concurrency.ConcurrentStress;
+
+public class BeanMapperConcurrencyTest {
+	private static final int THREADS = 64;
+	private static final int ITERATIONS = 50;
+	private static final int PERSONS = 100;
+
+	@Test
+	@DisplayName(value = "when one fresh BeanMapper is shared by many threads for writing, " +
+			"every thread gets the output of its own person")
+	void sharedMapperWrite() throws InterruptedException, IOException {
+		ConcurrentStress.Report report = stressWrite();
+
+		assertTrue(report.isCorrect(), report.toString());
+	}
+
+	@Test
+	@DisplayName(value = "when one fresh BeanMapper is shared by many threads for reading, " +
+			"every thread gets the person of its own document")
+	void sharedMapperRead() throws InterruptedException {
+		ConcurrentStress.Report report = stressRead();
+
+		assertTrue(report.isCorrect(), report.toString());
+	}
+
+	@Test
+	@Tag("benchmark")
+	@DisplayName(value = "when one fresh BeanMapper is shared by many threads, " +
+			"how often the threads are blocked on each other is reported")
+	void sharedMapperContention(TestReporter reporter) throws InterruptedException, IOException {
+		ConcurrentStress.Report write = stressWrite();
+		ConcurrentStress.Report read = stressRead();
+
+		reporter.publishEntry("sharedMapperWrite", write.summary());
+		reporter.publishEntry("sharedMapperRead", read.summary());
+		assertTrue(write.isCorrect(), write.toString());
+		assertTrue(read.isCorrect(), read.toString());
+	}
+
+	private static ConcurrentStress.Report stressWrite() throws InterruptedException, IOException {
+		BeanMapper reference = new BeanMapper();
+		String[] expected = new String[PERSONS];
+		for (int i = 0; i < PERSONS; i++) {
+			expected[i] = write(reference, i);
+		}
+		BeanMapper shared = new BeanMapper();
+
+		return ConcurrentStress.run(THREADS, ITERATIONS, expected, input -> write(shared, input));
+	}
+
+	private static ConcurrentStress.Report stressRead() throws InterruptedException {
+		String[] expected = new String[PERSONS];
+		for (int i = 0; i < PERSONS; i++) {
+			expected[i] = person(i).toString();
+		}
+		BeanMapper shared = new BeanMapper();
+
+		return ConcurrentStress.run(THREADS, ITERATIONS, expected, input -> read(shared, input).toString());
+	}
+
+	public static Rdf4jBeansTest.Person person(int index) {
+		Rdf4jBeansTest.Person person = new Rdf4jBeansTest.Person();
+		person.setName("Example Name " + index);
+		person.setKnows("http://example.com/person/" + (index + 1));
+		return person;
+	}
+
+	public static String write(BeanMapper mapper, int index) throws IOException {
+		try (StringWriter w = new StringWriter()) {
+			mapper.write(w, person(index), "http://example.com/person/" + index, RDFFormat.JSONLD);
+			return w.toString();
+		}
+	}
+
+	public static Rdf4jBeansTest.Person read(BeanMapper mapper, int index) {
+		String input = "{\n" +
+				"  \"@context\": {\n" +
+				"    \"@vocab\": \"http://schema.org/\",\n" +
+				"    \"knows\": {\n" +
+				"      \"@type\": \"@id\"\n" +
+				"    }\n" +
+				"  },\n" +
+				"  \"@type\": \"Person\",\n" +
+				"  \"@id\": \"http://example.com/person/" + index + "\",\n" +
+				"  \"name\": \"Example Name " + index + "\",\n" +
+				"  \"knows\": \"http://example.com/person/" + (index + 1) + "\"\n" +
+				"}";
+		return mapper.read(new StringReader(input),
+				Rdf4jBeansTest.Person.class, "http://example.com/person/" + index, RDFFormat.JSONLD);
+	}
+}
@@ -0,0 +1,91 @@
+package com.github.mdhtr.rdf.rdf4jbeans;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.kburger.rdf4j.beans.BeanMapper;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest;
+import com.github.mdhtr.jsonld.jackson.JsonldDeserializerModule;
+
+/**
+ * Reads the document of {@link Rdf4jBeansTest#rdf4jBeans_deserialize()} into a person with
+ * {@code BeanMapper.read}, which parses it into an RDF model first, and with the
+ * {@link JsonldDeserializerModule}, which maps the tokens to the bean properties directly.
+ * Plain Jackson, which only understands the exact compaction of the bean, is the baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonldDeserializationBenchmark {
+	private static final String INPUT = "{\n" +
+			"  \"@context\": {\n" +
+			"    \"@vocab\": \"http://schema.org/\",\n" +
+			"    \"knows\": {\n" +
+			"      \"@type\": \"@id\"\n" +
+			"    }\n" +
+			"  },\n" +
+			"  \"@type\": \"Person\",\n" +
+			"  \"@id\": \"http://example.com/person/1234\",\n" +
+			"  \"name\": \"Example Name\",\n" +
+			"  \"knows\": \"http://example.com/person/2345\"\n" +
+			"}";
+
+	private BeanMapper beanMapper;
+	private ObjectReader jsonldModuleReader;
+	private ObjectReader plainReader;
+
+	@Setup
+	public void setup() {
+		beanMapper = new BeanMapper();
+		jsonldModuleReader = new ObjectMapper()
+				.registerModule(new JsonldDeserializerModule())
+				.readerFor(JacksonSerializationTest.Person.class);
+		plainReader = new ObjectMapper().readerFor(JacksonSerializationTest.Person.class);
+	}
+
+	@Benchmark
+	public Rdf4jBeansTest.Person beanMapper() {
+		return beanMapper.read(new StringReader(INPUT),
+				Rdf4jBeansTest.Person.class, "http://example.com/person/1234", RDFFormat.JSONLD);
+	}
+
+	@Benchmark
+	public JacksonSerializationTest.Person jsonldModule() throws IOException {
+		return jsonldModuleReader.readValue(INPUT);
+	}
+
+	@Benchmark
+	public JacksonSerializationTest.Person plainJackson() throws IOException {
+		return plainReader.readValue(INPUT);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(JsonldDeserializationBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build())
+				.run();
+	}
+}
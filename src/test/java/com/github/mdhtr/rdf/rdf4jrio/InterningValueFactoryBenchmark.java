@@ -0,0 +1,104 @@
+package com.github.mdhtr.rdf.rdf4jrio;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFParser;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares parsing with the {@link SimpleValueFactory} and the {@link InterningValueFactory}.
+ * Every operation is a single triple, so the {@code gc.alloc.rate.norm} reported by the
+ * GC profiler is the allocation per triple.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterningValueFactoryBenchmark {
+	private static final int PERSONS = 1000;
+	// type, name and knows for every person
+	private static final int TRIPLES = PERSONS * 3;
+
+	private byte[] document;
+	private ValueFactory interningFactory;
+
+	@Setup
+	public void setup() {
+		StringBuilder builder = new StringBuilder("{\n" +
+				"  \"@context\": {\n" +
+				"    \"@vocab\": \"http://schema.org/\",\n" +
+				"    \"knows\": {\n" +
+				"      \"@type\": \"@id\"\n" +
+				"    }\n" +
+				"  },\n" +
+				"  \"@graph\": [\n");
+		for (int i = 0; i < PERSONS; i++) {
+			builder.append(i == 0 ? "" : ",\n")
+					.append("    {\"@type\": \"Person\", ")
+					.append("\"@id\": \"http://example.com/person/").append(i).append("\", ")
+					.append("\"name\": \"Example Name\", ")
+					.append("\"knows\": \"http://example.com/person/").append((i + 1) % PERSONS).append("\"}");
+		}
+		builder.append("\n  ]\n}\n");
+		document = builder.toString().getBytes(StandardCharsets.UTF_8);
+		interningFactory = new InterningValueFactory();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TRIPLES)
+	public void simpleValueFactory(Blackhole blackhole) throws IOException {
+		parse(SimpleValueFactory.getInstance(), blackhole);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(TRIPLES)
+	public void interningValueFactory(Blackhole blackhole) throws IOException {
+		parse(interningFactory, blackhole);
+	}
+
+	private void parse(ValueFactory factory, Blackhole blackhole) throws IOException {
+		RDFParser rdfParser = Rio.createParser(RDFFormat.JSONLD);
+		rdfParser.setValueFactory(factory);
+		rdfParser.setRDFHandler(new AbstractRDFHandler() {
+			@Override
+			public void handleStatement(Statement statement) {
+				blackhole.consume(statement);
+			}
+		});
+		rdfParser.parse(new ByteArrayInputStream(document), "");
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(InterningValueFactoryBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build())
+				.run();
+	}
+}
@@ -0,0 +1,159 @@
+package com.github.mdhtr.rdf.rdf4jrio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFParser;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.helpers.StatementCollector;
+import org.junit.jupiter.api.Test;
+
+class InterningValueFactoryTest {
+	private static final String INPUT = "{\n" +
+			"  \"@context\": {\n" +
+			"    \"@vocab\": \"http://schema.org/\",\n" +
+			"    \"knows\": {\n" +
+			"      \"@type\": \"@id\"\n" +
+			"    }\n" +
+			"  },\n" +
+			"  \"@type\": \"Person\",\n" +
+			"  \"@id\": \"http://example.com/person/1234\",\n" +
+			"  \"name\": \"Example Name\",\n" +
+			"  \"knows\": \"http://example.com/person/2345\"\n" +
+			"}\n";
+
+	private final ValueFactory simpleFactory = SimpleValueFactory.getInstance();
+
+	@Test
+	void createdIrisAreEqualToSimpleIris() {
+		InterningValueFactory factory = new InterningValueFactory();
+
+		IRI iri = factory.createIRI("http://schema.org/name");
+		IRI simpleIri = simpleFactory.createIRI("http://schema.org/name");
+
+		assertEquals(simpleIri, iri);
+		assertEquals(iri, simpleIri);
+		assertEquals(simpleIri.hashCode(), iri.hashCode());
+		assertEquals("http://schema.org/", iri.getNamespace());
+		assertEquals("name", iri.getLocalName());
+		assertEquals("http://schema.org/name", iri.stringValue());
+	}
+
+	@Test
+	void repeatedValuesAreTheSameInstance() {
+		InterningValueFactory factory = new InterningValueFactory();
+
+		assertSame(factory.createIRI("http://schema.org/name"), factory.createIRI("http://schema.org/name"));
+		assertSame(factory.createIRI("http://schema.org/", "name"), factory.createIRI("http://schema.org/name"));
+		assertSame(factory.createLiteral("Example Name"), factory.createLiteral("Example Name"));
+		assertSame(factory.createLiteral("Example Name", "en"), factory.createLiteral("Example Name", "en"));
+		assertSame(factory.createLiteral("42", factory.createIRI("http://www.w3.org/2001/XMLSchema#int")),
+				factory.createLiteral("42", factory.createIRI("http://www.w3.org/2001/XMLSchema#int")));
+	}
+
+	@Test
+	void namespacesAreShared() {
+		InterningValueFactory factory = new InterningValueFactory();
+
+		IRI name = factory.createIRI("http://schema.org/name");
+		IRI knows = factory.createIRI("http://schema.org/knows");
+
+		assertSame(name.getNamespace(), knows.getNamespace());
+		assertEquals(1, factory.namespaceCount());
+
+		for (int i = 0; i < InterningValueFactory.MAX_LITERAL_KINDS; i++) {
+			factory.createLiteral("x", "x-" + i);
+		}
+		assertNotSame(factory.createLiteral("x", "x-more"), factory.createLiteral("x", "x-more"));
+		assertSame(factory.createLiteral("x", "x-0"), factory.createLiteral("x", "x-0"));
+	}
+
+	@Test
+	void cachesAreBounded() {
+		InterningValueFactory factory = new InterningValueFactory(1, 1, 4);
+
+		assertSame(factory.createIRI("http://example.com/person/1"), factory.createIRI("http://example.com/person/1"));
+		assertNotSame(factory.createIRI("http://example.com/person/2"), factory.createIRI("http://example.com/person/2"));
+		assertEquals(1, factory.cachedIriCount());
+		assertNotSame(factory.createLiteral("too long"), factory.createLiteral("too long"));
+
+		factory.createIRI("http://example.com/person/1/address");
+		factory.createIRI("http://example.com/person/2/address");
+		assertEquals(1, factory.namespaceCount());
+	}
+
+	@Test
+	void equalityUsesTheStringValueOfOtherIris() {
+		IRI iri = new InterningValueFactory().createIRI("http://schema.org/name");
+		IRI other = new IRI() {
+			@Override
+			public String getNamespace() {
+				return "http://schema.org/";
+			}
+
+			@Override
+			public String getLocalName() {
+				return "name";
+			}
+
+			@Override
+			public String stringValue() {
+				return "http://schema.org/name";
+			}
+
+			@Override
+			public String toString() {
+				return "<http://schema.org/name>";
+			}
+		};
+
+		assertEquals(iri, other);
+	}
+
+	@Test
+	void parserUsesTheInterningValueFactory() throws IOException {
+		InterningValueFactory factory = new InterningValueFactory();
+
+		Model first = parse(factory);
+		Model second = parse(factory);
+
+		Model expectedModel = new LinkedHashModel();
+		IRI examplePersonId = simpleFactory.createIRI("http://example.com/person/1234");
+		expectedModel.add(examplePersonId, RDF.TYPE, simpleFactory.createIRI("http://schema.org/Person"));
+		expectedModel.add(examplePersonId, simpleFactory.createIRI("http://schema.org/name"),
+				simpleFactory.createLiteral("Example Name"));
+		expectedModel.add(examplePersonId, simpleFactory.createIRI("http://schema.org/knows"),
+				simpleFactory.createIRI("http://example.com/person/2345"));
+
+		assertEquals(expectedModel, first);
+		assertEquals(expectedModel, second);
+		for (Statement statement : second) {
+			Statement match = first.filter(statement.getSubject(), statement.getPredicate(), null)
+					.iterator().next();
+			assertSame(match.getSubject(), statement.getSubject());
+			assertSame(match.getPredicate(), statement.getPredicate());
+			assertSame(match.getObject(), statement.getObject());
+		}
+	}
+
+	private static Model parse(ValueFactory factory) throws IOException {
+		RDFParser rdfParser = Rio.createParser(RDFFormat.JSONLD);
+		rdfParser.setValueFactory(factory);
+		Model model = new LinkedHashModel();
+		rdfParser.setRDFHandler(new StatementCollector(model));
+		rdfParser.parse(new ByteArrayInputStream(INPUT.getBytes()), "");
+		return model;
+	}
+}
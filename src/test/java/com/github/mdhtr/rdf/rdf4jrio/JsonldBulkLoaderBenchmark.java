@@ -0,0 +1,139 @@
+package com.github.mdhtr.rdf.rdf4jrio;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFParser;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.helpers.AbstractRDFHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Loads a generated export of {@code megabytes} size with the {@link JsonldBulkLoader} and with
+ * {@code Rio.parse} reading the whole file from an input stream. The throughput and the resident
+ * memory of the JVM are printed after each iteration. Use e.g. {@code -p megabytes=4096} for
+ * multi-GB files; the stream parser needs a heap several times the size of the file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+public class JsonldBulkLoaderBenchmark {
+	@Param({"64"})
+	public int megabytes;
+
+	@Param({"1", "4"})
+	public int parallelism;
+
+	private Path file;
+	private long statements;
+	private long nanos;
+
+	@Setup
+	public void setup() throws IOException {
+		file = Files.createTempFile("export", ".jsonld");
+		long size = megabytes * 1024L * 1024L;
+		try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+			writer.write("[\n");
+			long written = 2;
+			for (int i = 0; written < size; i++) {
+				String person = (i == 0 ? "" : ",\n") + "{" +
+						"\"@context\": {\"@vocab\": \"http://schema.org/\", \"knows\": {\"@type\": \"@id\"}}, " +
+						"\"@type\": \"Person\", " +
+						"\"@id\": \"http://example.com/person/" + i + "\", " +
+						"\"name\": \"Example Name " + i + "\", " +
+						"\"knows\": \"http://example.com/person/" + (i + 1) + "\"}";
+				writer.write(person);
+				written += person.length();
+			}
+			writer.write("\n]\n");
+		}
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		Files.delete(file);
+	}
+
+	@TearDown(Level.Iteration)
+	public void printStatistics() throws IOException {
+		double seconds = nanos / 1e9;
+		System.out.printf("%n(%d statements, %.1f MB/s, resident memory: %s)%n",
+				statements, Files.size(file) / (1024.0 * 1024.0) / seconds, residentMemory());
+	}
+
+	@Benchmark
+	public long bulkLoader() throws IOException {
+		JsonldBulkLoader.Statistics statistics = new JsonldBulkLoader(parallelism, new InterningValueFactory())
+				.load(file, new CountingHandler());
+		statements = statistics.getStatements();
+		nanos = statistics.getElapsedNanos();
+		return statements;
+	}
+
+	@Benchmark
+	public long rioParse() throws IOException {
+		long start = System.nanoTime();
+		CountingHandler handler = new CountingHandler();
+		try (InputStream inputStream = Files.newInputStream(file)) {
+			RDFParser rdfParser = Rio.createParser(RDFFormat.JSONLD);
+			rdfParser.setRDFHandler(handler);
+			rdfParser.parse(inputStream, "");
+		}
+		statements = handler.count;
+		nanos = System.nanoTime() - start;
+		return statements;
+	}
+
+	private static String residentMemory() throws IOException {
+		Path status = Paths.get("/proc/self/status");
+		if (!Files.exists(status)) {
+			return "unknown";
+		}
+		return Files.lines(status)
+				.filter(line -> line.startsWith("VmRSS:"))
+				.map(line -> line.substring("VmRSS:".length()).trim())
+				.findFirst()
+				.orElse("unknown");
+	}
+
+	private static final class CountingHandler extends AbstractRDFHandler {
+		private long count;
+
+		@Override
+		public void handleStatement(Statement statement) {
+			count++;
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(JsonldBulkLoaderBenchmark.class.getSimpleName())
+				.build())
+				.run();
+	}
+}
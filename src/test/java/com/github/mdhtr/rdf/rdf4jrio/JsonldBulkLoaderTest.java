@@ -0,0 +1,150 @@
+package com.github.mdhtr.rdf.rdf4jrio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.RDFParseException;
+import org.eclipse.rdf4j.rio.Rio;
+import org.eclipse.rdf4j.rio.helpers.StatementCollector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JsonldBulkLoaderTest {
+	private static final String CONTEXT = "\"@context\": {\"@vocab\": \"http://schema.org/\", \"knows\": {\"@type\": \"@id\"}}";
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void loadArrayOfNodeObjects() throws IOException {
+		Path file = directory.resolve("export.jsonld");
+		Files.writeString(file, "[\n" +
+				"  " + person(1, "Example Name") + ",\n" +
+				"  " + person(2, "Name with {braces} and \\\"quotes\\\"") + ",\n" +
+				"  " + person(3, "Third Name") + "\n" +
+				"]\n");
+		Model model = new LinkedHashModel();
+
+		JsonldBulkLoader.Statistics statistics = new JsonldBulkLoader(2).load(file, new StatementCollector(model));
+
+		assertEquals(parseWholeFile(file), model);
+		assertEquals(3, statistics.getDocuments());
+		assertEquals(9, statistics.getStatements());
+		assertEquals(Files.size(file), statistics.getBytes());
+	}
+
+	@Test
+	void loadOneNodeObjectPerLine() throws IOException {
+		Path file = directory.resolve("export.jsonl");
+		Files.writeString(file, person(1, "Example Name") + "\n" + person(2, "Other Name") + "\n");
+		Path arrayFile = directory.resolve("export.jsonld");
+		Files.writeString(arrayFile, "[" + person(1, "Example Name") + "," + person(2, "Other Name") + "]");
+		Model model = new LinkedHashModel();
+
+		new JsonldBulkLoader(1).load(file, new StatementCollector(model));
+
+		assertEquals(parseWholeFile(arrayFile), model);
+	}
+
+	@Test
+	void objectsMayCrossSegmentBoundaries() throws IOException {
+		Path file = directory.resolve("export.jsonld");
+		Files.writeString(file, "[" + person(1, "Example Name") + "," + person(2, "Other Name") + "]");
+		Model model = new LinkedHashModel();
+
+		new JsonldBulkLoader(2, SimpleValueFactory.getInstance(), 64).load(file, new StatementCollector(model));
+
+		assertEquals(parseWholeFile(file), model);
+	}
+
+	@Test
+	void loadNodesOfATopLevelGraph() throws IOException {
+		Path file = directory.resolve("export.jsonld");
+		Files.writeString(file, "{" + CONTEXT + ", \"@graph\": [\n" +
+				"  " + node(1, "Example Name") + ",\n" +
+				"  " + node(2, "Name with {braces}, \\\"@graph\\\": [] and \\\"quotes\\\"") + ",\n" +
+				"  " + node(3, "Third Name") + "\n" +
+				"]}\n");
+		Model model = new LinkedHashModel();
+
+		JsonldBulkLoader.Statistics statistics = new JsonldBulkLoader(2, SimpleValueFactory.getInstance(), 64)
+				.load(file, new StatementCollector(model));
+
+		assertEquals(parseWholeFile(file), model);
+		assertEquals(3, statistics.getDocuments());
+	}
+
+	@Test
+	void graphWithOtherKeysIsParsedWhole() throws IOException {
+		Path file = directory.resolve("export.jsonld");
+		Files.writeString(file, "{" + CONTEXT + ", \"@id\": \"http://example.com/graph\", \"@graph\": [" +
+				node(1, "Example Name") + ", " + node(2, "Other Name") + "]}");
+		Model model = new LinkedHashModel();
+
+		JsonldBulkLoader.Statistics statistics = new JsonldBulkLoader(1).load(file, new StatementCollector(model));
+
+		assertEquals(parseWholeFile(file), model);
+		assertEquals(1, statistics.getDocuments());
+	}
+
+	@Test
+	void keysAfterASplitGraphAreReported() throws IOException {
+		Path file = directory.resolve("export.jsonld");
+		Files.writeString(file, "{" + CONTEXT + ", \"@graph\": [" + node(1, "Example Name") + "], " +
+				"\"@id\": \"http://example.com/graph\"}");
+
+		assertThrows(IOException.class,
+				() -> new JsonldBulkLoader(1).load(file, new StatementCollector(new LinkedHashModel())));
+	}
+
+	@Test
+	void unterminatedObjectIsReported() throws IOException {
+		Path file = directory.resolve("export.jsonld");
+		Files.writeString(file, "[" + person(1, "Example Name") + ", {\"@id\": \"http://example.com/person/2\"");
+
+		assertThrows(IOException.class,
+				() -> new JsonldBulkLoader(1).load(file, new StatementCollector(new LinkedHashModel())));
+	}
+
+	@Test
+	void parseErrorIsReported() throws IOException {
+		Path file = directory.resolve("export.jsonld");
+		Files.writeString(file, "[" + person(1, "Example Name") + ", {\"@id\": }]");
+
+		assertThrows(RDFParseException.class,
+				() -> new JsonldBulkLoader(1).load(file, new StatementCollector(new LinkedHashModel())));
+	}
+
+	/**
+	 * @return a person without a @context, for a @graph
+	 */
+	private static String node(int id, String name) {
+		return "{\"@type\": \"Person\", " +
+				"\"@id\": \"http://example.com/person/" + id + "\", " +
+				"\"name\": \"" + name + "\", " +
+				"\"knows\": \"http://example.com/person/" + (id + 1) + "\"}";
+	}
+
+	private static String person(int id, String name) {
+		return "{" + CONTEXT + ", " +
+				"\"@type\": \"Person\", " +
+				"\"@id\": \"http://example.com/person/" + id + "\", " +
+				"\"name\": \"" + name + "\", " +
+				"\"knows\": \"http://example.com/person/" + (id + 1) + "\"}";
+	}
+
+	private static Model parseWholeFile(Path file) throws IOException {
+		try (InputStream inputStream = Files.newInputStream(file)) {
+			return Rio.parse(inputStream, "", RDFFormat.JSONLD);
+		}
+	}
+}
@@ -0,0 +1,108 @@
+package com.github.mdhtr.rdf.rdf4jrio;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Hashes a generated model of persons with a blank node address each, five statements per person,
+ * with a growing number of threads. {@code persons=200000} is a model of a million statements.
+ * The {@code list} shape instead hashes a single {@code @list} of that many items, one blank node
+ * component of two statements per item.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class ModelCanonicalizerBenchmark {
+	@Param({"20000", "200000"})
+	public int persons;
+
+	@Param({"1", "2", "4", "8"})
+	public int parallelism;
+
+	@Param({"persons", "list"})
+	public String shape;
+
+	private Model model;
+	private ForkJoinPool pool;
+	private final ModelCanonicalizer canonicalizer = new ModelCanonicalizer();
+
+	@Setup
+	public void setup() {
+		pool = new ForkJoinPool(parallelism);
+		ValueFactory factory = SimpleValueFactory.getInstance();
+		IRI person = factory.createIRI("http://schema.org/Person");
+		IRI name = factory.createIRI("http://schema.org/name");
+		IRI knows = factory.createIRI("http://schema.org/knows");
+		IRI address = factory.createIRI("http://schema.org/address");
+		IRI streetAddress = factory.createIRI("http://schema.org/streetAddress");
+		model = new LinkedHashModel();
+		if (shape.equals("list")) {
+			Resource previous = factory.createIRI("http://example.com/person/0");
+			IRI predicate = knows;
+			for (int i = 0; i < persons; i++) {
+				BNode item = factory.createBNode();
+				model.add(previous, predicate, item);
+				model.add(item, RDF.FIRST, factory.createIRI("http://example.com/person/" + i));
+				previous = item;
+				predicate = RDF.REST;
+			}
+			model.add(previous, RDF.REST, RDF.NIL);
+			return;
+		}
+		for (int i = 0; i < persons; i++) {
+			IRI personId = factory.createIRI("http://example.com/person/" + i);
+			BNode addressNode = factory.createBNode();
+			model.add(personId, RDF.TYPE, person);
+			model.add(personId, name, factory.createLiteral("Example Name " + i));
+			model.add(personId, knows, factory.createIRI("http://example.com/person/" + (i + 1) % persons));
+			model.add(personId, address, addressNode);
+			model.add(addressNode, streetAddress, factory.createLiteral(i + " Example Street"));
+		}
+	}
+
+	@TearDown
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	@Benchmark
+	public String hash() throws ExecutionException, InterruptedException {
+		// parallel streams started from a task of the pool run in that pool
+		return pool.submit(() -> canonicalizer.hash(model)).get();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(ModelCanonicalizerBenchmark.class.getSimpleName())
+				.build())
+				.run();
+	}
+}
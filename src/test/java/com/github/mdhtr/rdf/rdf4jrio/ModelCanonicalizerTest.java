@@ -0,0 +1,209 @@
+package com.github.mdhtr.rdf.rdf4jrio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.util.Models;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.junit.jupiter.api.Test;
+
+class ModelCanonicalizerTest {
+	private final ValueFactory factory = SimpleValueFactory.getInstance();
+	private final IRI name = factory.createIRI("http://schema.org/name");
+	private final IRI knows = factory.createIRI("http://schema.org/knows");
+	private final IRI address = factory.createIRI("http://schema.org/address");
+	private final IRI streetAddress = factory.createIRI("http://schema.org/streetAddress");
+	private final IRI schemaOrgPerson = factory.createIRI("http://schema.org/Person");
+	private final IRI examplePersonId = factory.createIRI("http://example.com/person/1234");
+	private final IRI exampleKnowsId = factory.createIRI("http://example.com/person/2345");
+
+	private final ModelCanonicalizer canonicalizer = new ModelCanonicalizer();
+
+	@Test
+	void hashDoesNotDependOnTheStatementOrder() {
+		Model model = new LinkedHashModel();
+		model.add(examplePersonId, RDF.TYPE, schemaOrgPerson);
+		model.add(examplePersonId, name, factory.createLiteral("Example Name"));
+		model.add(examplePersonId, knows, exampleKnowsId);
+		Model reordered = new LinkedHashModel();
+		reordered.add(examplePersonId, knows, exampleKnowsId);
+		reordered.add(examplePersonId, name, factory.createLiteral("Example Name"));
+		reordered.add(examplePersonId, RDF.TYPE, schemaOrgPerson);
+
+		assertEquals(canonicalizer.hash(model), canonicalizer.hash(reordered));
+	}
+
+	@Test
+	void hashDoesNotDependOnTheBlankNodeLabels() throws IOException {
+		String input = "{\n" +
+				"  \"@context\": {\"@vocab\": \"http://schema.org/\"},\n" +
+				"  \"@id\": \"http://example.com/person/1234\",\n" +
+				"  \"address\": [\n" +
+				"    {\"streetAddress\": \"First Street\"},\n" +
+				"    {\"streetAddress\": \"Second Street\", \"address\": {\"streetAddress\": \"Nested\"}}\n" +
+				"  ]\n" +
+				"}";
+
+		Model first = Rio.parse(new ByteArrayInputStream(input.getBytes()), "", RDFFormat.JSONLD);
+		Model second = relabelInReverseOrder(first);
+
+		assertEquals(canonicalizer.hash(first), canonicalizer.hash(second));
+		// compared as sets, as models are equal whenever they are isomorphic
+		assertEquals(new HashSet<>(canonicalizer.canonicalize(first)), new HashSet<>(canonicalizer.canonicalize(second)));
+		assertEquals(canonicalizer.hashSubjects(first), canonicalizer.hashSubjects(second));
+	}
+
+	@Test
+	void hashChangesWithTheContent() {
+		Model model = personWithAddress("First Street");
+		Model changed = personWithAddress("Second Street");
+
+		assertNotEquals(canonicalizer.hash(model), canonicalizer.hash(changed));
+		assertNotEquals(canonicalizer.hashSubjects(model).get(examplePersonId),
+				canonicalizer.hashSubjects(changed).get(examplePersonId));
+	}
+
+	@Test
+	void subjectHashChangesWithDeeplyNestedBlankNodes() {
+		Model model = nestedGeoCoordinates("1.0");
+		Model changed = nestedGeoCoordinates("2.0");
+
+		assertNotEquals(canonicalizer.hash(model), canonicalizer.hash(changed));
+		assertNotEquals(canonicalizer.hashSubjects(model).get(examplePersonId),
+				canonicalizer.hashSubjects(changed).get(examplePersonId));
+	}
+
+	@Test
+	void longList() {
+		Model model = list(5_000);
+
+		assertEquals(canonicalizer.hash(model), canonicalizer.hash(relabelInReverseOrder(model)));
+		assertNotEquals(canonicalizer.hash(model), canonicalizer.hash(list(5_001)));
+	}
+
+	@Test
+	void swappableTreeNodes() {
+		BNode parent = factory.createBNode();
+		Model model = new LinkedHashModel();
+		model.add(examplePersonId, knows, parent);
+		for (int i = 0; i < 2; i++) {
+			BNode child = factory.createBNode();
+			BNode grandchild = factory.createBNode();
+			model.add(parent, address, child);
+			model.add(child, address, grandchild);
+			model.add(grandchild, streetAddress, factory.createLiteral("Same Street"));
+		}
+
+		assertEquals(new HashSet<>(canonicalizer.canonicalize(model)),
+				new HashSet<>(canonicalizer.canonicalize(relabelInReverseOrder(model))));
+		assertEquals(canonicalizer.hash(model), canonicalizer.hash(relabelInReverseOrder(model)));
+	}
+
+	@Test
+	void symmetricBlankNodesAreLabeled() {
+		BNode first = factory.createBNode();
+		BNode second = factory.createBNode();
+		Model model = new LinkedHashModel();
+		model.add(examplePersonId, address, first);
+		model.add(examplePersonId, address, second);
+		model.add(first, knows, second);
+		model.add(second, knows, first);
+
+		Model canonical = canonicalizer.canonicalize(model);
+
+		assertEquals(4, canonical.size());
+		assertTrue(Models.isomorphic(model, canonical));
+		assertEquals(canonicalizer.hash(model), canonicalizer.hash(canonical));
+	}
+
+	@Test
+	void subjectHashesOnlyChangeForChangedSubjects() {
+		Model model = personWithAddress("First Street");
+		model.add(exampleKnowsId, name, factory.createLiteral("Other Name"));
+		Model changed = personWithAddress("Second Street");
+		changed.add(exampleKnowsId, name, factory.createLiteral("Other Name"));
+
+		Map<Resource, String> hashes = canonicalizer.hashSubjects(model);
+		Map<Resource, String> changedHashes = canonicalizer.hashSubjects(changed);
+
+		assertEquals(2, hashes.size());
+		assertEquals(hashes.get(exampleKnowsId), changedHashes.get(exampleKnowsId));
+		assertNotEquals(hashes.get(examplePersonId), changedHashes.get(examplePersonId));
+	}
+
+	private Model relabelInReverseOrder(Model model) {
+		Map<Value, Value> labels = new HashMap<>();
+		List<Statement> statements = new ArrayList<>(model);
+		Collections.reverse(statements);
+		Model relabeled = new LinkedHashModel();
+		for (Statement statement : statements) {
+			relabeled.add(
+					(Resource) labels.computeIfAbsent(statement.getSubject(), this::relabel),
+					statement.getPredicate(),
+					labels.computeIfAbsent(statement.getObject(), this::relabel));
+		}
+		return relabeled;
+	}
+
+	private Value relabel(Value value) {
+		return value instanceof BNode ? factory.createBNode() : value;
+	}
+
+	private Model list(int length) {
+		Model model = new LinkedHashModel();
+		Resource previous = examplePersonId;
+		IRI predicate = knows;
+		for (int i = 0; i < length; i++) {
+			BNode item = factory.createBNode();
+			model.add(previous, predicate, item);
+			model.add(item, RDF.FIRST, factory.createLiteral(i % 10));
+			previous = item;
+			predicate = RDF.REST;
+		}
+		model.add(previous, RDF.REST, RDF.NIL);
+		return model;
+	}
+
+	private Model nestedGeoCoordinates(String latitude) {
+		IRI geo = factory.createIRI("http://schema.org/geo");
+		BNode first = factory.createBNode();
+		BNode second = factory.createBNode();
+		BNode third = factory.createBNode();
+		Model model = new LinkedHashModel();
+		model.add(examplePersonId, address, first);
+		model.add(first, geo, second);
+		model.add(second, geo, third);
+		model.add(third, factory.createIRI("http://schema.org/latitude"), factory.createLiteral(latitude));
+		return model;
+	}
+
+	private Model personWithAddress(String street) {
+		BNode addressNode = factory.createBNode();
+		Model model = new LinkedHashModel();
+		model.add(examplePersonId, RDF.TYPE, schemaOrgPerson);
+		model.add(examplePersonId, address, addressNode);
+		model.add(addressNode, streetAddress, factory.createLiteral(street));
+		return model;
+	}
+}
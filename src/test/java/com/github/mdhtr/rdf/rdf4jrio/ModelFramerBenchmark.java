@@ -0,0 +1,136 @@
+package com.github.mdhtr.rdf.rdf4jrio;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Literal;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.Resource;
+import org.eclipse.rdf4j.model.Statement;
+import org.eclipse.rdf4j.model.Value;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Frames the persons of a generated graph with the {@link ModelFramer}, including building its
+ * indexes, and with a naive frame that scans every statement for every node it visits.
+ * Half of the nodes are persons, the other half the things they know about.
+ * The naive frame is quadratic: it takes tens of seconds on 10000 nodes and about an hour on
+ * 100000 nodes, so the default sizes stop at 10000. Run the full 100k node comparison with
+ * {@code -p nodes=100000}, it takes several hours with the configured iterations.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 3)
+@Fork(1)
+public class ModelFramerBenchmark {
+	private static final String SCHEMA_ORG = "http://schema.org/";
+
+	@Param({"1000", "10000"})
+	public int nodes;
+
+	private final ValueFactory factory = SimpleValueFactory.getInstance();
+	private final IRI person = factory.createIRI(SCHEMA_ORG, "Person");
+
+	private Model model;
+	private List<Statement> statements;
+
+	@Setup
+	public void setup() {
+		IRI thing = factory.createIRI(SCHEMA_ORG, "Thing");
+		IRI name = factory.createIRI(SCHEMA_ORG, "name");
+		IRI description = factory.createIRI(SCHEMA_ORG, "description");
+		IRI knows = factory.createIRI(SCHEMA_ORG, "knows");
+		IRI knowsAbout = factory.createIRI(SCHEMA_ORG, "knowsAbout");
+		int persons = nodes / 2;
+		model = new LinkedHashModel();
+		for (int i = 0; i < persons; i++) {
+			IRI personId = factory.createIRI("http://example.com/person/" + i);
+			IRI thingId = factory.createIRI("http://example.com/thing/" + i);
+			model.add(personId, RDF.TYPE, person);
+			model.add(personId, name, factory.createLiteral("Example Name " + i));
+			model.add(personId, knows, factory.createIRI("http://example.com/person/" + (i + 1) % persons));
+			model.add(personId, knowsAbout, thingId);
+			model.add(thingId, RDF.TYPE, thing);
+			model.add(thingId, name, factory.createLiteral("Thing Name " + i));
+			model.add(thingId, description, factory.createLiteral("Thing Description " + i));
+		}
+		statements = new ArrayList<>(model);
+	}
+
+	@Benchmark
+	public Map<String, Object> indexedFrame() {
+		return new ModelFramer(model, SCHEMA_ORG).frame(person);
+	}
+
+	@Benchmark
+	public List<Map<String, Object>> naiveFrame() {
+		Set<Resource> embedded = new HashSet<>();
+		List<Resource> roots = new ArrayList<>();
+		for (Statement statement : statements) {
+			if (RDF.TYPE.equals(statement.getPredicate()) && person.equals(statement.getObject())) {
+				roots.add(statement.getSubject());
+				embedded.add(statement.getSubject());
+			}
+		}
+		List<Map<String, Object>> nodes = new ArrayList<>();
+		for (Resource root : roots) {
+			nodes.add(naiveNode(root, embedded));
+		}
+		return nodes;
+	}
+
+	private Map<String, Object> naiveNode(Resource subject, Set<Resource> embedded) {
+		Map<String, Object> node = new LinkedHashMap<>();
+		node.put("@id", subject.stringValue());
+		for (Statement statement : statements) {
+			if (statement.getSubject().equals(subject)) {
+				node.put(statement.getPredicate().stringValue(), naiveValue(statement.getObject(), embedded));
+			}
+		}
+		return node;
+	}
+
+	private Object naiveValue(Value value, Set<Resource> embedded) {
+		if (value instanceof Literal) {
+			return value.stringValue();
+		}
+		Resource resource = (Resource) value;
+		boolean isSubject = statements.stream().anyMatch(statement -> statement.getSubject().equals(resource));
+		if (isSubject && embedded.add(resource)) {
+			return naiveNode(resource, embedded);
+		}
+		return Map.of("@id", resource.stringValue());
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(ModelFramerBenchmark.class.getSimpleName())
+				.build())
+				.run();
+	}
+}
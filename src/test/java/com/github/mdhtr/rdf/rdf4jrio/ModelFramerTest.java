@@ -0,0 +1,123 @@
+package com.github.mdhtr.rdf.rdf4jrio;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.Map;
+
+import org.eclipse.rdf4j.model.BNode;
+import org.eclipse.rdf4j.model.IRI;
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.model.ValueFactory;
+import org.eclipse.rdf4j.model.impl.LinkedHashModel;
+import org.eclipse.rdf4j.model.impl.SimpleValueFactory;
+import org.eclipse.rdf4j.model.vocabulary.RDF;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class ModelFramerTest {
+	private final ValueFactory factory = SimpleValueFactory.getInstance();
+	private final IRI name = factory.createIRI("http://schema.org/name");
+	private final IRI knows = factory.createIRI("http://schema.org/knows");
+	private final IRI knowsAbout = factory.createIRI("http://schema.org/knowsAbout");
+	private final IRI schemaOrgPerson = factory.createIRI("http://schema.org/Person");
+	private final IRI examplePersonId = factory.createIRI("http://example.com/person/1234");
+	private final IRI exampleKnowsId = factory.createIRI("http://example.com/person/2345");
+
+	private ObjectMapper objectMapper;
+
+	@BeforeEach
+	void setup() {
+		objectMapper = new ObjectMapper();
+	}
+
+	@Test
+	@DisplayName(value = "the nodes of the framed type are the roots of the @graph, " +
+			"the other nodes they reference are embedded, " +
+			"and the properties are shortened with the @vocab")
+	void frameWithVocab() throws JsonProcessingException {
+		Model model = new LinkedHashModel();
+		model.add(examplePersonId, RDF.TYPE, schemaOrgPerson);
+		model.add(examplePersonId, name, factory.createLiteral("Example Name"));
+		model.add(examplePersonId, knows, exampleKnowsId);
+		model.add(exampleKnowsId, name, factory.createLiteral("Other Name", "en"));
+
+		ModelFramer framer = new ModelFramer(model, "http://schema.org/");
+
+		assertEquals("{\"@context\":{\"@vocab\":\"http://schema.org/\"}," +
+				"\"@graph\":[{" +
+				"\"@id\":\"http://example.com/person/1234\"," +
+				"\"@type\":\"Person\"," +
+				"\"name\":\"Example Name\"," +
+				"\"knows\":{" +
+				"\"@id\":\"http://example.com/person/2345\"," +
+				"\"name\":{\"@value\":\"Other Name\",\"@language\":\"en\"}" +
+				"}}]}", objectMapper.writeValueAsString(framer.frame(schemaOrgPerson)));
+	}
+
+	@Test
+	@DisplayName(value = "a node referenced from several places is embedded once, " +
+			"the other places only reference it by @id, " +
+			"and a repeated property becomes an array")
+	void embedOnce() throws JsonProcessingException {
+		IRI otherPersonId = factory.createIRI("http://example.com/person/3456");
+		BNode thing = factory.createBNode("thing");
+		Model model = new LinkedHashModel();
+		model.add(examplePersonId, RDF.TYPE, schemaOrgPerson);
+		model.add(examplePersonId, knowsAbout, thing);
+		model.add(examplePersonId, knows, otherPersonId);
+		model.add(examplePersonId, knows, exampleKnowsId);
+		model.add(otherPersonId, RDF.TYPE, schemaOrgPerson);
+		model.add(otherPersonId, knowsAbout, thing);
+		model.add(thing, name, factory.createLiteral(42));
+
+		ModelFramer framer = new ModelFramer(model, null);
+
+		assertEquals("[{" +
+				"\"@id\":\"http://example.com/person/1234\"," +
+				"\"@type\":\"http://schema.org/Person\"," +
+				"\"http://schema.org/knowsAbout\":{" +
+				"\"@id\":\"_:thing\"," +
+				"\"http://schema.org/name\":{\"@value\":\"42\",\"@type\":\"http://www.w3.org/2001/XMLSchema#int\"}" +
+				"}," +
+				"\"http://schema.org/knows\":[" +
+				"{\"@id\":\"http://example.com/person/3456\"}," +
+				"{\"@id\":\"http://example.com/person/2345\"}" +
+				"]" +
+				"},{" +
+				"\"@id\":\"http://example.com/person/3456\"," +
+				"\"@type\":\"http://schema.org/Person\"," +
+				"\"http://schema.org/knowsAbout\":{\"@id\":\"_:thing\"}" +
+				"}]", objectMapper.writeValueAsString(framer.frameNodes(schemaOrgPerson)));
+	}
+
+	@Test
+	@DisplayName(value = "a chain of references deeper than the thread stack is embedded node by node")
+	void deepChain() {
+		int length = 20_000;
+		Model model = new LinkedHashModel();
+		model.add(examplePersonId, RDF.TYPE, schemaOrgPerson);
+		IRI previous = examplePersonId;
+		for (int i = 0; i < length; i++) {
+			IRI next = factory.createIRI("http://example.com/person/chain/" + i);
+			model.add(previous, knows, next);
+			previous = next;
+		}
+		model.add(previous, name, factory.createLiteral("Last"));
+
+		Map<String, Object> node = new ModelFramer(model, "http://schema.org/").frameNodes(schemaOrgPerson).get(0);
+
+		for (int i = 0; i < length; i++) {
+			node = castNode(node.get("knows"));
+		}
+		assertEquals("Last", node.get("name"));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> castNode(Object node) {
+		return (Map<String, Object>) node;
+	}
+}
@@ -0,0 +1,156 @@
+package com.github.mdhtr.regression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.rdf4j.model.Model;
+import org.eclipse.rdf4j.rio.RDFFormat;
+import org.eclipse.rdf4j.rio.Rio;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.mdhtr.jsonld.hydrajsonld.HydraConcurrencyTest;
+import com.github.mdhtr.jsonld.jackson.JacksonSerializationTest.Person;
+import com.github.mdhtr.jsonld.jackson.JsonldDeserializerModule;
+import com.github.mdhtr.jsonld.jackson.PersonDataset;
+import com.github.mdhtr.jsonld.jacksonjsonld.JsonldModuleConcurrencyTest;
+import com.github.mdhtr.jsonld.schema.JsonldBeanReader;
+import com.github.mdhtr.jsonld.schema.JsonldBeanWriter;
+import com.github.mdhtr.jsonld.schema.JsonldSchemas;
+
+/**
+ * Writes and reads the persons of a {@link PersonDataset} with each stack, one person per operation,
+ * going round the dataset. The {@link ThroughputRegressionGateTest} compares the results with a baseline.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DatasetThroughputBenchmark {
+	@Param({"3"})
+	public int depth;
+
+	@Param({"4"})
+	public int fanOut;
+
+	@Param({"16"})
+	public int nameLength;
+
+	@Param({"64", "4096"})
+	public int descriptionLength;
+
+	private Person[] persons;
+	private String[] documents;
+	private int next;
+
+	private ObjectWriter jacksonWriter;
+	private ObjectReader jacksonReader;
+	private ObjectWriter jsonldModuleWriter;
+	private ObjectWriter hydraWriter;
+	private ObjectReader jsonldDeserializerReader;
+	private JsonFactory jsonFactory;
+	private JsonldBeanWriter<Person> generatedWriter;
+	private JsonldBeanReader<Person> generatedReader;
+
+	@Setup
+	public void setup() {
+		PersonDataset dataset = PersonDataset.generate(new PersonDataset.Shape(
+				PersonDataset.Shape.DEFAULT.getSeed(), depth, fanOut, nameLength, descriptionLength));
+		persons = dataset.persons().toArray(new Person[0]);
+		documents = dataset.documents().toArray(new String[0]);
+
+		ObjectMapper jackson = new ObjectMapper();
+		jacksonWriter = jackson.writerFor(Person.class);
+		jacksonReader = jackson.readerFor(Person.class);
+		jsonldModuleWriter = JsonldModuleConcurrencyTest.newObjectMapper().writerFor(Person.class);
+		hydraWriter = HydraConcurrencyTest.newObjectMapper().writerFor(Person.class);
+		jsonldDeserializerReader = new ObjectMapper().registerModule(new JsonldDeserializerModule())
+				.readerFor(Person.class);
+		jsonFactory = new JsonFactory();
+		generatedWriter = JsonldSchemas.writerFor(Person.class);
+		generatedReader = JsonldSchemas.readerFor(Person.class);
+	}
+
+	private int nextIndex() {
+		int index = next;
+		next = index + 1 == persons.length ? 0 : index + 1;
+		return index;
+	}
+
+	@Benchmark
+	public byte[] writeJackson() throws IOException {
+		return jacksonWriter.writeValueAsBytes(persons[nextIndex()]);
+	}
+
+	@Benchmark
+	public byte[] writeJsonldModule() throws IOException {
+		return jsonldModuleWriter.writeValueAsBytes(persons[nextIndex()]);
+	}
+
+	@Benchmark
+	public byte[] writeHydra() throws IOException {
+		return hydraWriter.writeValueAsBytes(persons[nextIndex()]);
+	}
+
+	@Benchmark
+	public byte[] writeGenerated() throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+		try (JsonGenerator generator = jsonFactory.createGenerator(bytes)) {
+			generatedWriter.write(persons[nextIndex()], generator);
+		}
+		return bytes.toByteArray();
+	}
+
+	@Benchmark
+	public Person readJackson() throws IOException {
+		return jacksonReader.readValue(documents[nextIndex()]);
+	}
+
+	@Benchmark
+	public Person readJsonldDeserializerModule() throws IOException {
+		return jsonldDeserializerReader.readValue(documents[nextIndex()]);
+	}
+
+	@Benchmark
+	public Person readGenerated() throws IOException {
+		try (JsonParser parser = jsonFactory.createParser(documents[nextIndex()])) {
+			return generatedReader.read(parser);
+		}
+	}
+
+	@Benchmark
+	public Model parseRio() throws IOException {
+		return Rio.parse(new StringReader(documents[nextIndex()]), "", RDFFormat.JSONLD);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder()
+				.include(DatasetThroughputBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.build())
+				.run();
+	}
+}
@@ -0,0 +1,106 @@
+package com.github.mdhtr.regression;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+
+/**
+ * Turns JMH results into a baseline of throughput and allocation per benchmark, and lists the
+ * benchmarks that got slower or allocate more than the baseline, beyond a relative threshold.
+ */
+final class RegressionGate {
+	static final String THROUGHPUT = ".throughput";
+	static final String ALLOCATION = ".allocation";
+
+	/**
+	 * bytes per operation below which allocation differences are noise
+	 */
+	private static final double ALLOCATION_SLACK = 64;
+
+	private RegressionGate() {
+	}
+
+	/**
+	 * @return the throughput and, when the results come with the GC profiler, the bytes allocated per
+	 * operation, keyed by the benchmark method and its parameters
+	 */
+	static Properties measurements(Collection<RunResult> results) {
+		Properties measurements = new Properties();
+		for (RunResult result : results) {
+			String benchmark = result.getParams().getBenchmark();
+			String key = benchmark.substring(benchmark.lastIndexOf('.') + 1) + result.getParams().getParamsKeys().stream()
+					.map(param -> param + "=" + result.getParams().getParam(param))
+					.collect(Collectors.joining(",", "[", "]"));
+			measurements.setProperty(key + THROUGHPUT, String.valueOf(result.getPrimaryResult().getScore()));
+			for (String secondary : result.getSecondaryResults().keySet()) {
+				if (secondary.endsWith("gc.alloc.rate.norm")) {
+					Result<?> allocation = result.getSecondaryResults().get(secondary);
+					measurements.setProperty(key + ALLOCATION, String.valueOf(allocation.getScore()));
+				}
+			}
+		}
+		return measurements;
+	}
+
+	/**
+	 * @param threshold the allowed relative change, e.g. {@code 0.2} for 20 percent
+	 * @return a description of each regression, and of each measurement without a baseline to compare it with,
+	 * empty if there is none
+	 */
+	static List<String> regressions(Properties baseline, Properties measured, double threshold) {
+		List<String> regressions = new ArrayList<>();
+		Set<String> keys = new TreeSet<>(baseline.stringPropertyNames());
+		keys.addAll(measured.stringPropertyNames());
+		for (String key : keys) {
+			String value = measured.getProperty(key);
+			String baselineValue = baseline.getProperty(key);
+			if (value == null) {
+				regressions.add(key + ": not measured");
+				continue;
+			}
+			if (baselineValue == null) {
+				regressions.add(key + ": not in the baseline, record it again with -Dbenchmark.record=true");
+				continue;
+			}
+			double expected = Double.parseDouble(baselineValue);
+			double actual = Double.parseDouble(value);
+			if (key.endsWith(THROUGHPUT) && actual < expected * (1 - threshold)) {
+				regressions.add(String.format(Locale.ROOT, "%s: %.1f ops/ms, baseline %.1f ops/ms", key, actual, expected));
+			}
+			if (key.endsWith(ALLOCATION) && actual > expected * (1 + threshold) + ALLOCATION_SLACK) {
+				regressions.add(String.format(Locale.ROOT, "%s: %.0f B/op, baseline %.0f B/op", key, actual, expected));
+			}
+		}
+		return regressions;
+	}
+
+	static Properties load(Path file) throws IOException {
+		Properties properties = new Properties();
+		try (Reader reader = Files.newBufferedReader(file)) {
+			properties.load(reader);
+		}
+		return properties;
+	}
+
+	static void store(Properties properties, Path file) throws IOException {
+		if (file.getParent() != null) {
+			Files.createDirectories(file.getParent());
+		}
+		try (Writer writer = Files.newBufferedWriter(file)) {
+			properties.store(writer, "DatasetThroughputBenchmark baseline, ops/ms and bytes/op");
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package com.github.mdhtr.regression;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RegressionGateTest {
+	@TempDir
+	Path directory;
+
+	@Test
+	void changesWithinTheThresholdPass() {
+		Properties baseline = properties("writeJackson[depth=3]", 1000, 2000);
+		Properties measured = properties("writeJackson[depth=3]", 850, 2300);
+
+		assertEquals(List.of(), RegressionGate.regressions(baseline, measured, 0.2));
+	}
+
+	@Test
+	void slowerOrMoreAllocatingBenchmarksAreReported() {
+		Properties baseline = properties("writeJackson[depth=3]", 1000, 2000);
+		Properties measured = properties("writeJackson[depth=3]", 700, 3000);
+
+		assertEquals(List.of(
+				"writeJackson[depth=3].allocation: 3000 B/op, baseline 2000 B/op",
+				"writeJackson[depth=3].throughput: 700.0 ops/ms, baseline 1000.0 ops/ms"),
+				RegressionGate.regressions(baseline, measured, 0.2));
+	}
+
+	@Test
+	void fasterBenchmarksAndSmallAllocationsPass() {
+		Properties baseline = properties("readGenerated[depth=3]", 1000, 0);
+		Properties measured = properties("readGenerated[depth=3]", 5000, 48);
+
+		assertEquals(List.of(), RegressionGate.regressions(baseline, measured, 0.2));
+	}
+
+	@Test
+	void missingMeasurementsAreReported() {
+		Properties baseline = properties("writeHydra[depth=3]", 1000, 2000);
+
+		assertEquals(List.of("writeHydra[depth=3].allocation: not measured", "writeHydra[depth=3].throughput: not measured"),
+				RegressionGate.regressions(baseline, new Properties(), 0.2));
+	}
+
+	@Test
+	void measurementsWithoutBaselineAreReported() {
+		Properties baseline = properties("writeJackson[depth=3]", 1000, 2000);
+		Properties measured = properties("writeJackson[depth=3]", 1000, 2000);
+		measured.putAll(properties("writeGenerated[depth=3]", 5000, 48));
+
+		assertEquals(List.of(
+				"writeGenerated[depth=3].allocation: not in the baseline, record it again with -Dbenchmark.record=true",
+				"writeGenerated[depth=3].throughput: not in the baseline, record it again with -Dbenchmark.record=true"),
+				RegressionGate.regressions(baseline, measured, 0.2));
+	}
+
+	@Test
+	void storedBaselineIsLoadedBack() throws IOException {
+		Properties baseline = properties("writeJackson[depth=3,descriptionLength=64]", 1234.5, 2048);
+		Path file = directory.resolve("baseline/benchmark-baseline.properties");
+
+		RegressionGate.store(baseline, file);
+
+		assertEquals(baseline, RegressionGate.load(file));
+	}
+
+	private static Properties properties(String benchmark, double throughput, double allocation) {
+		Properties properties = new Properties();
+		properties.setProperty(benchmark + RegressionGate.THROUGHPUT, String.valueOf(throughput));
+		properties.setProperty(benchmark + RegressionGate.ALLOCATION, String.valueOf(allocation));
+		return properties;
+	}
+}
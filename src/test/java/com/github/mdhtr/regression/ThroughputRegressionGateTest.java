@@ -0,0 +1,59 @@
+package com.github.mdhtr.regression;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs the {@link DatasetThroughputBenchmark} and fails when a stack got slower or allocates more per
+ * operation than in the baseline, beyond the {@code benchmark.threshold} (20 percent by default).
+ * It only runs in the {@code benchmark} profile: {@code mvn test -Pbenchmark}.
+ * <p>
+ * The baseline is read from {@code benchmark.baseline}, by default
+ * {@code target/benchmark/baseline.properties}, and the gate fails when it does not exist or misses a
+ * benchmark or a parameter combination that was measured. Record it with
+ * {@code -Dbenchmark.record=true}, which writes the measurements there instead of comparing them.
+ * Throughput depends on the machine, so the baseline has to be recorded on the machine that runs the gate,
+ * and kept outside of {@code target} by pointing {@code benchmark.baseline} to a file of the build machine.
+ */
+@Tag("benchmark")
+class ThroughputRegressionGateTest {
+	@Test
+	void noStackRegresses() throws RunnerException, IOException {
+		Path baselineFile = Paths.get(System.getProperty("benchmark.baseline", "target/benchmark/baseline.properties"));
+		boolean record = Boolean.getBoolean("benchmark.record");
+		assertTrue(record || Files.exists(baselineFile), "No benchmark baseline in " + baselineFile.toAbsolutePath()
+				+ ", record one with -Dbenchmark.record=true");
+		double threshold = Double.parseDouble(System.getProperty("benchmark.threshold", "0.2"));
+
+		Properties measured = RegressionGate.measurements(new Runner(new OptionsBuilder()
+				.include(DatasetThroughputBenchmark.class.getSimpleName())
+				.addProfiler(GCProfiler.class)
+				.warmupIterations(3)
+				.measurementIterations(5)
+				.measurementTime(TimeValue.seconds(1))
+				.build())
+				.run());
+
+		if (record) {
+			RegressionGate.store(measured, baselineFile);
+			System.out.println("Recorded the benchmark baseline in " + baselineFile.toAbsolutePath());
+			return;
+		}
+		List<String> regressions = RegressionGate.regressions(RegressionGate.load(baselineFile), measured, threshold);
+		assertTrue(regressions.isEmpty(), "Regressions beyond " + threshold * 100 + "% or measurements without a baseline:\n" + String.join("\n", regressions));
+	}
+}